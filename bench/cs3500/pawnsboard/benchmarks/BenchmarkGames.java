@@ -0,0 +1,80 @@
+package cs3500.pawnsboard.benchmarks;
+
+import java.io.File;
+
+import cs3500.pawnsboard.controller.PawnsDeckGenerator;
+import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.strategies.Move;
+import cs3500.pawnsboard.model.strategies.StrategyFillFirst;
+
+/**
+ * Builds the games the benchmarks run against.  Games are started from generated decks, and are
+ * then played with the fill first strategy, halfway for a board in the middle of a game, or to
+ * the last move for a board to solve.  Decks are generated from the first seed, counting up
+ * from 1, whose deal gives the first player a move, so each size always gives the same position.
+ */
+final class BenchmarkGames {
+
+  static final String LARGE_DECK = "docs" + File.separator + "largeDeckRed.config";
+
+  private BenchmarkGames() {
+  }
+
+  /**
+   * Returns a started game of the given size, played until half of its cells have been tried.
+   *
+   * @param size the board size, written as rows x cols such as 3x5
+   * @return the game
+   */
+  static PawnsBoardGame midGame(String size) {
+    String[] dimensions = size.split("x");
+    int rows = Integer.parseInt(dimensions[0]);
+    int cols = Integer.parseInt(dimensions[1]);
+    return play(start(rows, cols), rows * cols / 2);
+  }
+
+  /**
+   * Returns a started game of the given size, played to its end and then taken back to the last
+   * position where the player to move has a move, so that it is small enough to search to the end.
+   *
+   * @param size the board size, written as rows x cols such as 3x5
+   * @return the game
+   */
+  static PawnsBoardGame lateGame(String size) {
+    String[] dimensions = size.split("x");
+    int rows = Integer.parseInt(dimensions[0]);
+    int cols = Integer.parseInt(dimensions[1]);
+    return play(start(rows, cols), Integer.MAX_VALUE);
+  }
+
+  // Starts a game from the first seed whose deal gives the first player a move
+  private static PawnsBoardGame start(int rows, int cols) {
+    int[] moves = new int[3 * rows * cols * 5];
+    for (long seed = 1; ; seed++) {
+      PawnsBoardGame game = PawnsDeckGenerator.startGame(rows, cols, 5, seed);
+      if (game.getValidMoves(game.getCurrentTurn(), moves) > 0) {
+        return game;
+      }
+    }
+  }
+
+  // Makes the given number of fill first moves, passing whenever no card can be placed, then
+  // takes moves back until the player to move has a move, in case the game ended early
+  private static PawnsBoardGame play(PawnsBoardGame game, int tries) {
+    StrategyFillFirst fillFirst = new StrategyFillFirst();
+    for (int i = 0; i < tries && !game.isGameOver(); i++) {
+      try {
+        Move move = fillFirst.choosePlay(game, game.getCurrentTurn());
+        game.placeCard(move.row, move.col, move.handIndex);
+      } catch (IllegalStateException e) {
+        game.skipTurn();
+      }
+    }
+    int[] moves = new int[3 * game.getRows() * game.getCols() * 5];
+    while (game.canUndo()
+            && (game.isGameOver() || game.getValidMoves(game.getCurrentTurn(), moves) == 0)) {
+      game.undoMove();
+    }
+    return game;
+  }
+}
@@ -0,0 +1,138 @@
+package cs3500.pawnsboard.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cs3500.pawnsboard.model.BoardSnapshot;
+import cs3500.pawnsboard.model.Cell;
+import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * Benchmarks for the core operations of PawnsBoardGame, on a game in progress.
+ * Placing a card changes the game, so it is measured together with taking the move back, which
+ * leaves the same position for the next invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+  @Param({"3x5", "5x7", "9x15", "50x51"})
+  public String size;
+
+  private PawnsBoardGame game;
+  private Player turn;
+  private int[] moves;
+  private int row;
+  private int col;
+  private int handId;
+
+  /**
+   * Builds the game and finds a move for the player to move to place.
+   */
+  @Setup
+  public void setUp() {
+    game = BenchmarkGames.midGame(size);
+    turn = game.getCurrentTurn();
+    moves = new int[3 * game.getRows() * game.getCols() * game.getHand(turn).size()];
+    if (game.getValidMoves(turn, moves) == 0) {
+      throw new IllegalStateException("Benchmark position has no moves");
+    }
+    row = moves[0];
+    col = moves[1];
+    handId = moves[2];
+  }
+
+  /**
+   * Places a card and takes it back.
+   */
+  @Benchmark
+  public long placeCardAndUndo() {
+    game.placeCard(row, col, handId);
+    long hash = game.getPositionHash();
+    game.undoMove();
+    return hash;
+  }
+
+  /**
+   * Checks every cell and card in hand for the player to move.
+   */
+  @Benchmark
+  public void isMoveValid(Blackhole blackhole) {
+    int handSize = game.getHand(turn).size();
+    for (int r = 0; r < game.getRows(); r++) {
+      for (int c = 0; c < game.getCols(); c++) {
+        for (int h = 0; h < handSize; h++) {
+          blackhole.consume(game.isMoveValid(r, c, h, turn));
+        }
+      }
+    }
+  }
+
+  /**
+   * Lists every valid move for the player to move.
+   */
+  @Benchmark
+  public int getValidMoves() {
+    return game.getValidMoves(turn, moves);
+  }
+
+  /**
+   * Totals the score of both players.
+   */
+  @Benchmark
+  public int getTotalScore() {
+    return game.getTotalScore(Player.RED) + game.getTotalScore(Player.BLUE);
+  }
+
+  /**
+   * Copies the whole board.
+   */
+  @Benchmark
+  public Cell[][] getBoard() {
+    return game.getBoard();
+  }
+
+  /**
+   * Reads every cell one at a time.
+   */
+  @Benchmark
+  public void getCellAt(Blackhole blackhole) {
+    for (int r = 0; r < game.getRows(); r++) {
+      for (int c = 0; c < game.getCols(); c++) {
+        blackhole.consume(game.getCellAt(r, c));
+      }
+    }
+  }
+
+  /**
+   * Reads every cell through a board snapshot.
+   */
+  @Benchmark
+  public void getBoardSnapshot(Blackhole blackhole) {
+    BoardSnapshot board = game.getBoardSnapshot();
+    for (int r = 0; r < board.getRows(); r++) {
+      for (int c = 0; c < board.getCols(); c++) {
+        blackhole.consume(board.getOwner(r, c));
+        blackhole.consume(board.getPawns(r, c));
+        blackhole.consume(board.getCard(r, c));
+      }
+    }
+  }
+}
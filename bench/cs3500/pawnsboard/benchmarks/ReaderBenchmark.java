@@ -0,0 +1,58 @@
+package cs3500.pawnsboard.benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * Benchmarks for reading the large config deck from disk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReaderBenchmark {
+
+  private final File largeDeck = new File(BenchmarkGames.LARGE_DECK);
+
+  /**
+   * Reads the large deck for the red player.
+   */
+  @Benchmark
+  public List<Card> readRed() {
+    return PawnsCardReader.readCards(Player.RED, largeDeck);
+  }
+
+  /**
+   * Reads the large deck for the blue player, which mirrors every card.
+   */
+  @Benchmark
+  public List<Card> readBlue() {
+    return PawnsCardReader.readCards(Player.BLUE, largeDeck);
+  }
+
+  /**
+   * Reads the large deck for both players at once.
+   */
+  @Benchmark
+  public Map<Player, List<Card>> readBoth() {
+    return PawnsCardReader.readDecks(largeDeck);
+  }
+}
@@ -0,0 +1,66 @@
+package cs3500.pawnsboard.benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.StrategyFillFirst;
+import cs3500.pawnsboard.model.strategies.StrategyMaximizeRowScore;
+import cs3500.pawnsboard.simulation.SelfPlayEngine;
+import cs3500.pawnsboard.simulation.SimulationTally;
+
+/**
+ * Benchmarks for playing whole games headlessly with the self-play engine, on the 3x5 config
+ * decks with random draws, reported as games per second across every core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelfPlayBenchmark {
+
+  private static final int GAMES = 10_000;
+
+  private SelfPlayEngine engine;
+  private long seed;
+
+  /**
+   * Builds the engine.
+   */
+  @Setup
+  public void setUp() {
+    File file = new File("docs" + File.separator + "deckRed.config");
+    List<Card> redDeck = PawnsCardReader.readCards(Player.RED, file);
+    List<Card> blueDeck = PawnsCardReader.readCards(Player.BLUE, file);
+    engine = new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, true);
+  }
+
+  /**
+   * Plays a batch of games between the fill first and maximize row score strategies.
+   */
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public SimulationTally fillFirstAgainstMaxRowScore() {
+    SimulationTally tally = new SimulationTally();
+    engine.run(rand -> new StrategyFillFirst(), rand -> new StrategyMaximizeRowScore(), GAMES,
+            seed++, tally);
+    return tally;
+  }
+}
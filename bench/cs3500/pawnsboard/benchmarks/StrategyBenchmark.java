@@ -0,0 +1,118 @@
+package cs3500.pawnsboard.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.strategies.Move;
+import cs3500.pawnsboard.model.strategies.PawnsBoardStrategy;
+import cs3500.pawnsboard.model.strategies.StrategyAlphaBeta;
+import cs3500.pawnsboard.model.strategies.StrategyEndgame;
+import cs3500.pawnsboard.model.strategies.StrategyFillFirst;
+import cs3500.pawnsboard.model.strategies.StrategyMaximizeRowScore;
+import cs3500.pawnsboard.model.strategies.StrategyMonteCarlo;
+
+/**
+ * Benchmarks for choosing a move with each strategy, on a game in progress.
+ * Searching strategies run until their time budget is spent, so the alpha-beta strategy is given
+ * a generous budget and a fixed depth to make its work per call constant.  The Monte Carlo
+ * strategy always takes its whole budget, so its rate is measured by its playout count instead,
+ * reported as the playouts counter alongside its calls per second.  The endgame strategy solves
+ * a game with only its last few cells left, abandoning any search over a million positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+  @Param({"3x5", "5x7", "9x15"})
+  public String size;
+
+  private PawnsBoardGame game;
+  private PawnsBoardGame lateGame;
+  private final PawnsBoardStrategy fillFirst = new StrategyFillFirst();
+  private final PawnsBoardStrategy maxRowScore = new StrategyMaximizeRowScore();
+  private final PawnsBoardStrategy alphaBeta = new StrategyAlphaBeta(60_000, 3);
+  private final StrategyMonteCarlo monteCarlo = new StrategyMonteCarlo(50, 1, new Random(1));
+  private final PawnsBoardStrategy endgame = new StrategyEndgame(fillFirst, Integer.MAX_VALUE,
+          1_000_000);
+
+  /**
+   * Counts the playouts the Monte Carlo strategy runs, reported per second like the calls.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Playouts {
+    public long playouts;
+  }
+
+  /**
+   * Builds the games.
+   */
+  @Setup
+  public void setUp() {
+    game = BenchmarkGames.midGame(size);
+    lateGame = BenchmarkGames.lateGame(size);
+  }
+
+  /**
+   * Chooses a move with the fill first strategy.
+   */
+  @Benchmark
+  public Move fillFirst() {
+    return fillFirst.choosePlay(game, game.getCurrentTurn());
+  }
+
+  /**
+   * Chooses a move with the maximize row score strategy.
+   */
+  @Benchmark
+  public Move maxRowScore() {
+    return maxRowScore.choosePlay(game, game.getCurrentTurn());
+  }
+
+  /**
+   * Chooses a move with a three ply alpha-beta search.
+   */
+  @Benchmark
+  public Move alphaBeta() {
+    return alphaBeta.choosePlay(game, game.getCurrentTurn());
+  }
+
+  /**
+   * Chooses a move with a single threaded Monte Carlo search of 50 milliseconds, counting its
+   * playouts.
+   *
+   * @param counter the counter to add the playouts to
+   */
+  @Benchmark
+  public Move monteCarlo(Playouts counter) {
+    Move move = monteCarlo.choosePlay(game, game.getCurrentTurn());
+    counter.playouts += monteCarlo.getLastPlayouts();
+    return move;
+  }
+
+  /**
+   * Chooses a move with the endgame strategy, solving the rest of a nearly finished game.
+   */
+  @Benchmark
+  public Move endgame() {
+    return endgame.choosePlay(lateGame, lateGame.getCurrentTurn());
+  }
+}
@@ -0,0 +1,62 @@
+package cs3500.pawnsboard.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.view.PawnsBoardTextualView;
+
+/**
+ * Benchmarks for rendering a game in progress as text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewBenchmark {
+
+  @Param({"3x5", "5x7", "9x15", "50x51"})
+  public String size;
+
+  private PawnsBoardTextualView view;
+  private final StringBuilder out = new StringBuilder();
+
+  /**
+   * Builds the game and its view.
+   */
+  @Setup
+  public void setUp() {
+    view = new PawnsBoardTextualView(BenchmarkGames.midGame(size));
+  }
+
+  /**
+   * Renders the board as text.
+   */
+  @Benchmark
+  public String textualToString() {
+    return view.toString();
+  }
+
+  /**
+   * Renders the board as text into a reused buffer.
+   */
+  @Benchmark
+  public int textualRender() throws IOException {
+    out.setLength(0);
+    view.render(out);
+    return out.length();
+  }
+}
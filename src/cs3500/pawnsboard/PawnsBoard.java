@@ -5,7 +5,7 @@ import java.util.List;
 
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.PawnsBoardGame;
-import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.controller.PawnsDeckCache;
 import cs3500.pawnsboard.model.Player;
 import cs3500.pawnsboard.view.PawnsBoardTextualView;
 
@@ -21,8 +21,8 @@ public class PawnsBoard {
   public static void main(String[] args) {
     //Check read from deck.config
     File file = new File("docs" + File.separator + "deckRed.config");
-    List<Card> redDeck = PawnsCardReader.readCards(Player.RED, file);
-    List<Card> blueDeck = PawnsCardReader.readCards(Player.BLUE, file);
+    List<Card> redDeck = PawnsDeckCache.shared().getDeck(Player.RED, file);
+    List<Card> blueDeck = PawnsDeckCache.shared().getDeck(Player.BLUE, file);
 
     //Initializing PawnsBoardGame
     PawnsBoardGame game = new PawnsBoardGame(3, 5);
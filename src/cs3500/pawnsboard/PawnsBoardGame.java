@@ -5,7 +5,7 @@ import java.util.List;
 
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.PawnsBoard;
-import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.controller.PawnsDeckCache;
 import cs3500.pawnsboard.model.PawnsBoardReadOnly;
 import cs3500.pawnsboard.model.Player;
 import cs3500.pawnsboard.view.PawnsBoardTextualView;
@@ -24,12 +24,12 @@ public class PawnsBoardGame {
   public static void main(String[] args) {
     //Check read from config
     File file = new File("docs" + File.separator + "deckRed.config");
-    List<Card> redDeck = PawnsCardReader.readCards(Player.RED, file);
-    List<Card> blueDeck = PawnsCardReader.readCards(Player.BLUE, file);
+    List<Card> redDeck = PawnsDeckCache.shared().getDeck(Player.RED, file);
+    List<Card> blueDeck = PawnsDeckCache.shared().getDeck(Player.BLUE, file);
     File file1 = new File("docs" + File.separator + "largeDeckRed.config");
     File file2 = new File("docs" + File.separator + "largeDeckBlue.config");
-    List<Card> largeRedDeck = PawnsCardReader.readCards(Player.RED, file1);
-    List<Card> largeBlueDeck = PawnsCardReader.readCards(Player.BLUE, file2);
+    List<Card> largeRedDeck = PawnsDeckCache.shared().getDeck(Player.RED, file1);
+    List<Card> largeBlueDeck = PawnsDeckCache.shared().getDeck(Player.BLUE, file2);
 
     //Initializing PawnsBoardGame
     PawnsBoard game = new cs3500.pawnsboard.model.PawnsBoardGame(3, 5);
@@ -46,11 +46,11 @@ public class PawnsBoardGame {
 
     //Initializing the GUI
     PawnsBoardVisualView visualView = new PawnsBoardVisualView(readOnlyGame2);
+    game2.addListener(visualView);
     game2.placeCard(0, 0, 0);
     game2.placeCard(2, 6, 4);
     game2.placeCard(1, 0, 0);
     game2.placeCard(0, 6, 0);
-    visualView.update();
 
     //One Full Game of PawnsBoardGame
     game.placeCard(0, 0, 2);
@@ -0,0 +1,102 @@
+package cs3500.pawnsboard.controller;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsCard;
+
+/**
+ * An unmodifiable deck backed by a binary deck file, which builds each card from the file the
+ * first time it is asked for, and keeps it for later.  Nothing is kept per card until the first
+ * card is read.  Cards are built through the intern table, so equal cards usually share an
+ * instance, though as the table only holds cards weakly, a card kept nowhere else may be built
+ * again as a new instance by another deck.
+ */
+final class MappedDeck extends AbstractList<Card> implements RandomAccess {
+
+  private final ByteBuffer bytes;
+  private final boolean mirrored;
+  private final int count;
+  private final int nameCount;
+  private final int offsetsStart;
+  private final int namesStart;
+  // Cards built so far, by index, made on the first read so that loading stays constant time;
+  // racing threads at worst build equal cards twice
+  private Card[] built;
+
+  /**
+   * Wraps the given binary deck, checking its header.
+   *
+   * @param bytes the binary deck
+   * @param mirrored whether to mirror every card for the blue player
+   * @throws IllegalArgumentException if the bytes are not a binary deck
+   */
+  MappedDeck(ByteBuffer bytes, boolean mirrored) {
+    if (bytes.limit() < PawnsDeckCompiler.HEADER_SIZE
+            || bytes.getInt(0) != PawnsDeckCompiler.MAGIC) {
+      throw new IllegalArgumentException("Not a binary deck file");
+    }
+    if (bytes.getInt(4) != PawnsDeckCompiler.VERSION) {
+      throw new IllegalArgumentException("Unsupported binary deck version");
+    }
+    this.count = bytes.getInt(8);
+    this.nameCount = bytes.getInt(12);
+    long offsetsStart = PawnsDeckCompiler.HEADER_SIZE
+            + (long) PawnsDeckCompiler.RECORD_SIZE * count;
+    long namesStart = offsetsStart + 4L * (nameCount + 1L);
+    if (count < 0 || nameCount < 0 || namesStart > bytes.limit()) {
+      throw new IllegalArgumentException("Binary deck file is truncated");
+    }
+    this.bytes = bytes;
+    this.mirrored = mirrored;
+    this.offsetsStart = (int) offsetsStart;
+    this.namesStart = (int) namesStart;
+  }
+
+  @Override
+  public Card get(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("No card at index " + index);
+    }
+    Card[] cards = built;
+    if (cards == null) {
+      cards = new Card[count];
+      built = cards;
+    }
+    Card card = cards[index];
+    if (card == null) {
+      card = build(index);
+      cards[index] = card;
+    }
+    return card;
+  }
+
+  @Override
+  public int size() {
+    return count;
+  }
+
+  private Card build(int index) {
+    int record = PawnsDeckCompiler.HEADER_SIZE + PawnsDeckCompiler.RECORD_SIZE * index;
+    int nameIndex = bytes.getInt(record);
+    int cost = bytes.get(record + 4) & 0xFF;
+    int value = bytes.get(record + 5) & 0xFF;
+    int influence = bytes.getInt(record + 6);
+    if (nameIndex < 0 || nameIndex >= nameCount) {
+      throw new IllegalArgumentException("Binary deck card " + index + " has no name");
+    }
+    int start = bytes.getInt(offsetsStart + 4 * nameIndex);
+    int end = bytes.getInt(offsetsStart + 4 * nameIndex + 4);
+    if (start < 0 || end < start || namesStart + (long) end > bytes.limit()) {
+      throw new IllegalArgumentException("Binary deck card " + index + " has no name");
+    }
+    byte[] name = new byte[end - start];
+    bytes.get(namesStart + start, name);
+    PawnsCard card = PawnsCard.of(new String(name, StandardCharsets.UTF_8), cost, value,
+            influence);
+    return mirrored ? card.mirrored() : card;
+  }
+}
@@ -0,0 +1,46 @@
+package cs3500.pawnsboard.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * Reads decks from the binary format written by PawnsDeckCompiler.  The file is memory mapped
+ * and only its header is checked up front; each card is built from the mapping when it is asked
+ * for, so reading a deck takes the same time however many cards it holds.
+ */
+public class PawnsBinaryDeckReader {
+
+  /**
+   * Returns a deck of cards for the corresponding player, read from the given binary deck file.
+   * The deck for the blue player has its area of influence mirrored horizontally, but contains the
+   * same deck otherwise.  The deck cannot be modified.  Cards which are formatted incorrectly are
+   * only found when they are first asked for.
+   *
+   * @param playerDeck the player whose deck is constructed
+   * @param file the binary deck file to read from
+   * @return the deck
+   * @throws IllegalArgumentException if player or file is null
+   *                                  if the file cannot be read or is not a binary deck
+   */
+  public static List<Card> readCards(Player playerDeck, File file) {
+    if (playerDeck == null || file == null) {
+      throw new IllegalArgumentException("Cannot construct deck for null player or file");
+    }
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Binary deck file too large");
+      }
+      MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new MappedDeck(bytes, playerDeck == Player.BLUE);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error reading binary deck file");
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package cs3500.pawnsboard.controller;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsCard;
+
+/**
+ * Parses card config files straight from their bytes, building the red deck and the mirrored blue
+ * deck in the same pass.  Small files are read into memory in one call, and large ones are memory
+ * mapped, so a file is never decoded into characters as a whole; only card names are.
+ * Errors name the line they were found on, counting from 1.
+ */
+final class PawnsCardParser {
+
+  // Files at least this large are mapped rather than read
+  private static final long MAP_THRESHOLD = 1 << 20;
+
+  private final ByteBuffer bytes;
+  private final int limit;
+  private final List<Card> red = new ArrayList<>();
+  private final List<Card> blue = new ArrayList<>();
+  private int pos;
+  private int line = 1;
+
+  private PawnsCardParser(ByteBuffer bytes) {
+    this.bytes = bytes;
+    this.limit = bytes.limit();
+  }
+
+  /**
+   * Parses the given config file, returning its red deck and mirrored blue deck, in that order.
+   *
+   * @param path the config file
+   * @return the red deck and blue deck
+   * @throws IllegalArgumentException if the file cannot be read or is formatted incorrectly
+   * @throws IllegalStateException if a card is not marked in the center of its influence
+   */
+  static List<List<Card>> parse(Path path) {
+    PawnsCardParser parser = new PawnsCardParser(load(path));
+    parser.parseCards();
+    return List.of(parser.red, parser.blue);
+  }
+
+  private static ByteBuffer load(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Config file too large");
+      }
+      if (size >= MAP_THRESHOLD) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // Keep reading until the whole file is in the buffer
+      }
+      buffer.flip();
+      return buffer;
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error reading config file, fix format and try again");
+    }
+  }
+
+  private void parseCards() {
+    skipWhitespace();
+    while (pos < limit) {
+      String name = parseName();
+      int cost = parseInt();
+      int value = parseInt();
+      skipRestOfLine();
+      int influence = 0;
+      for (int i = 0; i < 5; i++) {
+        influence |= parseInfluenceRow(i);
+      }
+      PawnsCard card;
+      try {
+        card = PawnsCard.of(name, cost, value, influence);
+      } catch (IllegalArgumentException e) {
+        throw error(line - 6, e.getMessage());
+      }
+      red.add(card);
+      blue.add(card.mirrored());
+      skipWhitespace();
+    }
+  }
+
+  private String parseName() {
+    int start = pos;
+    while (pos < limit && !isWhitespace(bytes.get(pos))) {
+      pos++;
+    }
+    if (bytes.hasArray()) {
+      return new String(bytes.array(), start, pos - start, StandardCharsets.UTF_8);
+    }
+    byte[] name = new byte[pos - start];
+    bytes.get(start, name);
+    return new String(name, StandardCharsets.UTF_8);
+  }
+
+  private int parseInt() {
+    skipSpaces();
+    if (pos >= limit || bytes.get(pos) == '\n' || bytes.get(pos) == '\r') {
+      throw error(line, "expected a number");
+    }
+    boolean negative = false;
+    byte sign = bytes.get(pos);
+    if (sign == '-' || sign == '+') {
+      negative = sign == '-';
+      pos++;
+    }
+    int start = pos;
+    long number = 0;
+    while (pos < limit && bytes.get(pos) >= '0' && bytes.get(pos) <= '9') {
+      number = number * 10 + (bytes.get(pos) - '0');
+      if (number > Integer.MAX_VALUE) {
+        throw error(line, "number too large");
+      }
+      pos++;
+    }
+    if (pos == start || (pos < limit && !isWhitespace(bytes.get(pos)))) {
+      throw error(line, "expected a number");
+    }
+    return (int) (negative ? -number : number);
+  }
+
+  // Reads one row of the influence grid, returning its bits of the influence mask
+  private int parseInfluenceRow(int row) {
+    if (pos >= limit) {
+      throw error(line, "expected 5 rows of influence");
+    }
+    int start = pos;
+    int mask = 0;
+    while (pos < limit && bytes.get(pos) != '\n' && bytes.get(pos) != '\r') {
+      int col = pos - start;
+      byte symbol = bytes.get(pos);
+      if (col >= 5 || (symbol != 'I' && symbol != 'X' && symbol != 'C')) {
+        throw error(line, "influence rows must be 5 of I, X, or C");
+      }
+      if (symbol != 'X') {
+        mask |= 1 << (row * 5 + col);
+      }
+      if (row == 2 && col == 2 && symbol != 'C') {
+        throw new IllegalStateException("Config file formatted incorrectly, line " + line
+                + ": card must be at the center of its influence");
+      }
+      pos++;
+    }
+    if (pos - start != 5) {
+      throw error(line, "influence rows must be 5 of I, X, or C");
+    }
+    endLine();
+    return mask;
+  }
+
+  private void skipSpaces() {
+    while (pos < limit && (bytes.get(pos) == ' ' || bytes.get(pos) == '\t')) {
+      pos++;
+    }
+  }
+
+  private void skipRestOfLine() {
+    while (pos < limit && bytes.get(pos) != '\n' && bytes.get(pos) != '\r') {
+      pos++;
+    }
+    endLine();
+  }
+
+  // Steps past a line break, if there is one
+  private void endLine() {
+    if (pos < limit && bytes.get(pos) == '\r') {
+      pos++;
+    }
+    if (pos < limit && bytes.get(pos) == '\n') {
+      pos++;
+    }
+    line++;
+  }
+
+  private void skipWhitespace() {
+    while (pos < limit && isWhitespace(bytes.get(pos))) {
+      if (bytes.get(pos) == '\n') {
+        line++;
+      }
+      pos++;
+    }
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f';
+  }
+
+  private static IllegalArgumentException error(int line, String message) {
+    return new IllegalArgumentException("Config file formatted incorrectly, line " + line + ": "
+            + message);
+  }
+}
@@ -1,14 +1,11 @@
 package cs3500.pawnsboard.controller;
 
 import java.io.File;
-import java.io.IOException;
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Scanner;
+import java.util.Map;
 
 import cs3500.pawnsboard.model.Card;
-import cs3500.pawnsboard.model.PawnsCard;
 import cs3500.pawnsboard.model.Player;
 
 /**
@@ -28,49 +25,36 @@ public class PawnsCardReader {
    * @param playerDeck the player whose deck is constructed
    * @param file the file source to read from
    * @return the completed deck
+   * @throws IllegalArgumentException if player or file is null
+   *                                  if the file cannot be read or is formatted incorrectly
+   * @throws IllegalStateException if a card is not marked in the center of its influence
    */
   public static List<Card> readCards(Player playerDeck, File file) {
     if (playerDeck == null || file == null) {
       throw new IllegalArgumentException("Cannot construct deck for null player or file");
     }
-    return formatCards(playerDeck, file);
+    return PawnsCardParser.parse(file.toPath()).get(playerDeck.ordinal());
   }
 
-  private static List<Card> formatCards(Player playerDeck, File file) {
-    try {
-      Scanner scanner = new Scanner(file);
-      List<Card> cards = new ArrayList<>();
-      while (scanner.hasNextLine()) {
-        String name = scanner.next();
-        int cost = scanner.nextInt();
-        int value = scanner.nextInt();
-        scanner.nextLine();
-        boolean[][] influence = new boolean[5][5];
-        for (int i = 0; i < 5; i++) {
-          String line = scanner.nextLine();
-          if (line.length() != 5) {
-            throw new IllegalArgumentException("Config file formatted incorrectly");
-          }
-          for (int j = 0; j < 5; j++) {
-            int j2 = j;
-            if (playerDeck == Player.BLUE) {
-              j2 = 4 - j;
-            }
-            char c = line.charAt(j2);
-            if (c != 'I' && c != 'X' && c != 'C') {
-              throw new IllegalArgumentException("Config file formatted incorrectly");
-            }
-            influence[i][j] = c == 'I' || c == 'C';
-            if (i == 2 && c != 'C' && j2 == 2) {
-              throw new IllegalStateException("Config file formatted incorrectly");
-            }
-          }
-        }
-        cards.add(new PawnsCard(name, cost, value, influence));
-      }
-      return cards;
-    } catch (NoSuchElementException | IOException e) {
-      throw new IllegalArgumentException("Error reading config file, fix format and try again");
+  /**
+   * Returns the decks of cards for both players, reading the given file only once.  The deck for
+   * the blue player has its area of influence mirrored horizontally, but contains the same deck
+   * otherwise.
+   *
+   * @param file the file source to read from
+   * @return each player's completed deck
+   * @throws IllegalArgumentException if file is null
+   *                                  if the file cannot be read or is formatted incorrectly
+   * @throws IllegalStateException if a card is not marked in the center of its influence
+   */
+  public static Map<Player, List<Card>> readDecks(File file) {
+    if (file == null) {
+      throw new IllegalArgumentException("Cannot construct deck for null file");
     }
+    List<List<Card>> decks = PawnsCardParser.parse(file.toPath());
+    Map<Player, List<Card>> byPlayer = new EnumMap<>(Player.class);
+    byPlayer.put(Player.RED, decks.get(0));
+    byPlayer.put(Player.BLUE, decks.get(1));
+    return byPlayer;
   }
 }
@@ -0,0 +1,220 @@
+package cs3500.pawnsboard.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * A cache of decks read from config files, so that a file used for many games is only read once.
+ * Both players' decks are read together and shared, unmodifiable, between every caller.
+ * Entries are found by the file's canonical path, and are only used while the file's size and
+ * last modified time match those it was read with.  Directories holding cached files are also
+ * watched, so that entries for changed or deleted files are dropped without waiting to be asked
+ * for again.  Once full, the least recently used entry makes room for a new one.
+ * The cache is safe to share between threads.  Files are read while holding the cache's lock.
+ */
+public class PawnsDeckCache {
+
+  private static final PawnsDeckCache SHARED = new PawnsDeckCache(64);
+
+  private final Map<Path, Entry> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final Set<Path> watchedDirs = new HashSet<>();
+  private WatchService watcher;
+
+  /**
+   * Creates a new empty cache holding at most the given number of files' decks.
+   *
+   * @param capacity the most files to keep decks for
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public PawnsDeckCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the cache shared by the whole program.
+   *
+   * @return the shared cache
+   */
+  public static PawnsDeckCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the decks of cards for both players read from the given file, reading it only if it
+   * has not been read before or has changed since.  The deck for the blue player has its area of
+   * influence mirrored horizontally, but contains the same deck otherwise.  Neither deck can be
+   * modified.
+   *
+   * @param file the file source to read from
+   * @return each player's deck
+   * @throws IllegalArgumentException if file is null
+   *                                  if the file cannot be read or is formatted incorrectly
+   * @throws IllegalStateException if a card is not marked in the center of its influence
+   */
+  public synchronized Map<Player, List<Card>> getDecks(File file) {
+    if (file == null) {
+      throw new IllegalArgumentException("Cannot construct deck for null file");
+    }
+    Path path;
+    BasicFileAttributes attributes;
+    try {
+      path = file.toPath().toRealPath();
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error reading config file, fix format and try again");
+    }
+    long size = attributes.size();
+    long modified = attributes.lastModifiedTime().toMillis();
+    Entry entry = entries.get(path);
+    if (entry != null && entry.size == size && entry.modified == modified) {
+      hits.incrementAndGet();
+      return entry.decks;
+    }
+    misses.incrementAndGet();
+    Map<Player, List<Card>> read = PawnsCardReader.readDecks(path.toFile());
+    Map<Player, List<Card>> decks = new EnumMap<>(Player.class);
+    decks.put(Player.RED, Collections.unmodifiableList(read.get(Player.RED)));
+    decks.put(Player.BLUE, Collections.unmodifiableList(read.get(Player.BLUE)));
+    entry = new Entry(size, modified, Collections.unmodifiableMap(decks));
+    entries.put(path, entry);
+    watch(path.getParent());
+    return entry.decks;
+  }
+
+  /**
+   * Returns the deck of cards for the given player read from the given file, reading it only if
+   * it has not been read before or has changed since.  The deck cannot be modified.
+   *
+   * @param playerDeck the player whose deck is returned
+   * @param file the file source to read from
+   * @return the deck
+   * @throws IllegalArgumentException if player or file is null
+   *                                  if the file cannot be read or is formatted incorrectly
+   * @throws IllegalStateException if a card is not marked in the center of its influence
+   */
+  public List<Card> getDeck(Player playerDeck, File file) {
+    if (playerDeck == null) {
+      throw new IllegalArgumentException("Cannot construct deck for null player or file");
+    }
+    return getDecks(file).get(playerDeck);
+  }
+
+  /**
+   * Returns the number of requests answered without reading a file.
+   *
+   * @return the hit count
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of requests which had to read a file.
+   *
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Returns the number of files whose decks are currently cached.
+   *
+   * @return the number of cached files
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Drops every cached deck.  The hit and miss counts are kept.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  // Starts watching the given directory for changes, if it is not already watched
+  private void watch(Path dir) {
+    if (dir == null || watchedDirs.contains(dir)) {
+      return;
+    }
+    try {
+      if (watcher == null) {
+        watcher = FileSystems.getDefault().newWatchService();
+        Thread thread = new Thread(this::dropChanged, "pawns-deck-cache");
+        thread.setDaemon(true);
+        thread.start();
+      }
+      dir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY,
+              StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_CREATE);
+      watchedDirs.add(dir);
+    } catch (IOException | UnsupportedOperationException e) {
+      // Without a watch, changes are still caught by the size and time check
+    }
+  }
+
+  // Drops the entries of files the watcher reports changed, until the watcher is closed
+  private void dropChanged() {
+    try {
+      while (true) {
+        WatchKey key = watcher.take();
+        Path dir = (Path) key.watchable();
+        synchronized (this) {
+          for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+              entries.keySet().removeIf(path -> dir.equals(path.getParent()));
+            } else {
+              entries.remove(dir.resolve((Path) event.context()));
+            }
+          }
+        }
+        key.reset();
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Stop watching
+    }
+  }
+
+  // Decks read from a file, with the size and time the file had when read
+  private static final class Entry {
+    private final long size;
+    private final long modified;
+    private final Map<Player, List<Card>> decks;
+
+    private Entry(long size, long modified, Map<Player, List<Card>> decks) {
+      this.size = size;
+      this.modified = modified;
+      this.decks = decks;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package cs3500.pawnsboard.controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import cs3500.pawnsboard.model.Card;
+
+/**
+ * Compiles a text card config file into the binary deck format read by PawnsBinaryDeckReader.
+ * A binary deck holds the cards as the red player sees them, and is laid out big endian as:
+ * a 16 byte header of magic number, format version, card count, and name count; one 10 byte
+ * record per card of name index, cost byte, value byte, and 25 bit influence mask; a table of
+ * name count + 1 offsets into the name data; and the names themselves in UTF-8.
+ * Names shared by several cards are stored once.
+ */
+public class PawnsDeckCompiler {
+
+  static final int MAGIC = 0x50444B31;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_SIZE = 10;
+
+  /**
+   * Reads the given text config file and writes its cards to the given binary deck file,
+   * replacing it if it exists.
+   *
+   * @param config the text config file to read
+   * @param binary the binary deck file to write
+   * @throws IllegalArgumentException if either file is null
+   *                                  if the config cannot be read or is formatted incorrectly
+   *                                  if a card's value does not fit in a byte
+   *                                  if the binary deck cannot be written
+   * @throws IllegalStateException if a card is not marked in the center of its influence
+   */
+  public static void compile(File config, File binary) {
+    if (config == null || binary == null) {
+      throw new IllegalArgumentException("Cannot compile null file");
+    }
+    write(PawnsCardParser.parse(config.toPath()).get(0), binary);
+  }
+
+  /**
+   * Writes the given cards, as the red player sees them, to the given binary deck file,
+   * replacing it if it exists.
+   *
+   * @param cards the cards to write
+   * @param binary the binary deck file to write
+   * @throws IllegalArgumentException if cards or file are null, or cards contain null
+   *                                  if a card's value does not fit in a byte
+   *                                  if the binary deck cannot be written
+   */
+  public static void write(List<Card> cards, File binary) {
+    if (cards == null || binary == null || cards.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Cannot write null cards or file");
+    }
+    Map<String, Integer> nameIndices = new HashMap<>();
+    List<byte[]> names = new ArrayList<>();
+    int nameBytes = 0;
+    for (Card card : cards) {
+      if (card.getValue() > 255) {
+        throw new IllegalArgumentException("Card values must be at most 255");
+      }
+      if (!nameIndices.containsKey(card.getName())) {
+        byte[] name = card.getName().getBytes(StandardCharsets.UTF_8);
+        nameIndices.put(card.getName(), names.size());
+        names.add(name);
+        nameBytes += name.length;
+      }
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + RECORD_SIZE * cards.size()
+            + 4 * (names.size() + 1) + nameBytes);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(cards.size()).putInt(names.size());
+    for (Card card : cards) {
+      buffer.putInt(nameIndices.get(card.getName()));
+      buffer.put((byte) card.getCost()).put((byte) card.getValue());
+      buffer.putInt(card.getInfluenceMask());
+    }
+    int offset = 0;
+    for (byte[] name : names) {
+      buffer.putInt(offset);
+      offset += name.length;
+    }
+    buffer.putInt(offset);
+    for (byte[] name : names) {
+      buffer.put(name);
+    }
+    buffer.flip();
+    try (FileChannel channel = FileChannel.open(binary.toPath(), StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error writing binary deck file");
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package cs3500.pawnsboard.controller;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.PawnsCard;
+
+/**
+ * Generates decks of random cards, for playing on boards larger than the supplied decks can fill.
+ * Every generated deck holds exactly two copies of each of its cards, besides one single copy
+ * when the size is odd, and every card has its center marked in its influence.  The same seed
+ * always gives the same deck.  Generated decks can be written in the text config format or the
+ * binary deck format.
+ */
+public class PawnsDeckGenerator {
+
+  private static final int CENTER = 12;
+
+  /**
+   * Returns a deck of the given number of random cards, as the red player sees them.
+   *
+   * @param count the number of cards in the deck
+   * @param seed the seed the cards are generated from
+   * @return the deck
+   * @throws IllegalArgumentException if count is negative
+   */
+  public static List<Card> generate(int count, long seed) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Deck size cannot be negative");
+    }
+    Random rand = new Random(seed);
+    List<Card> deck = new ArrayList<>(count);
+    for (int i = 0; i < count; i += 2) {
+      int cost = 1 + rand.nextInt(3);
+      int value = 1 + rand.nextInt(2 * cost + 1);
+      int influence = 1 << CENTER;
+      for (int bit = 0; bit < 25; bit++) {
+        if (bit != CENTER && rand.nextInt(4) == 0) {
+          influence |= 1 << bit;
+        }
+      }
+      Card card = PawnsCard.of("Card" + i / 2, cost, value, influence);
+      deck.add(card);
+      if (i + 1 < count) {
+        deck.add(card);
+      }
+    }
+    Collections.shuffle(deck, rand);
+    return deck;
+  }
+
+  /**
+   * Returns a started game on a board of the given size, with both players dealt from a
+   * generated deck just large enough to fill the board, the blue deck mirroring the red one.
+   * Cards are drawn from the front of the decks.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @param handSize the starting hand size for both players
+   * @param seed the seed the decks are generated from
+   * @return the started game
+   * @throws IllegalArgumentException if the board size is invalid
+   *                                  if the hand size is not between 1 and a third of the deck
+   */
+  public static PawnsBoardGame startGame(int rows, int cols, int handSize, long seed) {
+    PawnsBoardGame game = new PawnsBoardGame(rows, cols, new Random(seed));
+    List<Card> red = generate(Math.max(rows * cols, 3 * handSize), seed);
+    List<Card> blue = new ArrayList<>(red.size());
+    for (Card card : red) {
+      blue.add(((PawnsCard) card).mirrored());
+    }
+    game.startGame(red, blue, handSize, false);
+    return game;
+  }
+
+  /**
+   * Writes the given cards, as the red player sees them, to the given file in the text config
+   * format read by PawnsCardReader, replacing it if it exists.
+   *
+   * @param cards the cards to write
+   * @param file the config file to write
+   * @throws IllegalArgumentException if cards or file are null, or cards contain null
+   *                                  if the file cannot be written
+   */
+  public static void writeConfig(List<Card> cards, File file) {
+    if (cards == null || file == null || cards.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Cannot write null cards or file");
+    }
+    try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      char[] row = new char[5];
+      for (Card card : cards) {
+        writer.write(card.getName() + " " + card.getCost() + " " + card.getValue() + "\n");
+        int influence = card.getInfluenceMask();
+        for (int i = 0; i < 5; i++) {
+          for (int j = 0; j < 5; j++) {
+            int bit = i * 5 + j;
+            row[j] = bit == CENTER ? 'C' : (influence & (1 << bit)) != 0 ? 'I' : 'X';
+          }
+          writer.write(row);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Error writing config file");
+    }
+  }
+
+  /**
+   * Writes a generated deck to a file, as text or in the binary deck format.
+   * Takes the arguments: card count, seed, output file, and optionally --binary.
+   *
+   * @param args the command line arguments
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 4
+            || (args.length == 4 && !args[3].equals("--binary"))) {
+      System.err.println("Usage: PawnsDeckGenerator <count> <seed> <output> [--binary]");
+      return;
+    }
+    List<Card> deck = generate(Integer.parseInt(args[0]), Long.parseLong(args[1]));
+    File output = new File(args[2]);
+    if (args.length == 4) {
+      PawnsDeckCompiler.write(deck, output);
+    } else {
+      writeConfig(deck, output);
+    }
+  }
+}
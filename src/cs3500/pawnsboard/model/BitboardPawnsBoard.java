@@ -0,0 +1,860 @@
+package cs3500.pawnsboard.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A game of pawns board backed by bitboards rather than a grid of cell objects.  Plays by the
+ * exact same rules as {@link PawnsBoardGame} and can be used anywhere a {@link PawnsBoard} is
+ * expected, but keeps the board as a handful of packed bit planes so that placing a card, skipping
+ * a turn and spreading influence are plain shift and mask operations without allocating.
+ * Cells are indexed row-major, so the cell at (row, col) is bit (row * cols + col) of each plane.
+ * The pawn count of a cell is stored in binary across two planes, a low bit and a high bit,
+ * which covers the 0-3 pawns a cell may hold.
+ */
+public class BitboardPawnsBoard implements PawnsBoard {
+
+  //<editor-fold desc="Fields">
+  private final int rows;
+  private final int cols;
+  private final Random rand;
+  private boolean randomDraw;
+  private boolean gameStarted;
+  private boolean gameOver;
+
+  // Bit planes, one bit per cell.  owned is indexed by player ordinal, and a cell with a card
+  // keeps the card owner's bit set with both pawn bits cleared
+  private long[][] owned;
+  private long[] pawnsLow;
+  private long[] pawnsHigh;
+  private long[] cardPlaced;
+  private Card[] cards;
+  private int[][] rowScores;
+
+  // Position hash, kept as the xor of every occupied cell's key and the sum of every hand card's
+  // key, with the turn and pass state mixed in when read
+  private long boardHash;
+  private long handHash;
+
+  // Decks indexed by player ordinal, drawn from the front at each player's cursor.  A random draw
+  // first swaps a random undrawn card to the cursor, shuffling the deck one step per draw
+  private Card[][] decks;
+  private int[] deckCursors;
+  private List<Card> redHand;
+  private List<Card> blueHand;
+  private Player currentTurn;
+  private boolean lastPassed = false;
+  private boolean firstTurnOver = false;
+
+  // Listeners told of each move, created when the first is added, and the indexes of the cells
+  // changed by the move being made, only gathered while there are listeners
+  private List<PawnsBoardListener> listeners;
+  private int[] changedCells;
+  private int changedCount;
+
+  // Counts every change to the game, so snapshots can tell when they are out of date
+  private int version;
+  private Snapshot snapshot;
+  //</editor-fold>
+
+  //<editor-fold desc="Constructors">
+  /**
+   * Creates a new bitboard pawns board game with a random seed.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @throws IllegalArgumentException if rows or columns is not positive
+   *                                  if columns is not odd and greater than two
+   */
+  public BitboardPawnsBoard(int rows, int cols) {
+    this(rows, cols, new Random());
+  }
+
+  /**
+   * Creates a new bitboard pawns board game using the given random as a seed.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @param rand random used for drawing new cards
+   * @throws IllegalArgumentException if rows or columns is not positive
+   *                                  if columns is not odd and greater than two
+   *                                  if the given random is null
+   */
+  public BitboardPawnsBoard(int rows, int cols, Random rand) {
+    if (rows < 1) {
+      throw new IllegalArgumentException("rows must be greater than 0");
+    }
+    if (cols < 3 || cols % 2 != 1) {
+      throw new IllegalArgumentException("columns must be odd and greater than two");
+    }
+    if (rand == null) {
+      throw new IllegalArgumentException("random must not be null");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.rand = rand;
+  }
+  //</editor-fold>
+
+  //<editor-fold desc="Game Starters">
+
+  /**
+   * Initializes a new game of pawns board.  Both players are supplied their own decks containing
+   * playing cards of their color, and dealt an equal amount of cards into their starting hand.
+   * A new board is initialized which is empty, except for a singular red pawn in each cell in the
+   * leftmost column, and a singular blue pawn in each cell in the rightmost column.  Red has the
+   * first turn.  The deck arguments are intended to be fetched using the PawnsCardReader class,
+   * with a config file specified when calling that class' method, however it is possible to
+   * manually create a deck as well.
+   *
+   * @param redDeck    red player's deck
+   * @param blueDeck   blue player's deck
+   * @param handSize   the starting hand size for both players
+   * @param randomDraw whether each new card is drawn randomly or from the front
+   * @throws IllegalArgumentException if either decks are null or contain null
+   *                                  if the hand size is less than 1
+   *                                  if either deck contains fewer cards than the number of cells
+   *                                  if there are more than 2 copies of the same card in one deck
+   *                                  if hand size is greater than a third of either deck size
+   * @throws IllegalStateException    if game is already in progress
+   */
+  @Override
+  public void startGame(List<Card> redDeck, List<Card> blueDeck, int handSize, boolean randomDraw) {
+    if (gameStarted) {
+      throw new IllegalStateException("Game already started");
+    }
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("Decks cannot be null");
+    }
+    List<Card> newRedDeck = Decks.internDeck(redDeck);
+    List<Card> newBlueDeck = Decks.internDeck(blueDeck);
+    if (handSize < 1 || handSize > Math.max(redDeck.size(), blueDeck.size()) / 3) {
+      throw new IllegalArgumentException("Hand must be positive and less than a third of the deck");
+    }
+    if (redDeck.size() < rows * cols || blueDeck.size() < rows * cols) {
+      throw new IllegalArgumentException("Decks must contain enough cards to fill the board");
+    }
+    this.decks = new Card[][] {newRedDeck.toArray(new Card[0]), newBlueDeck.toArray(new Card[0])};
+    this.deckCursors = new int[2];
+    this.randomDraw = randomDraw;
+    setupGame(handSize);
+  }
+
+  private void setupGame(int handSize) {
+    boardHash = 0;
+    handHash = 0;
+    this.redHand = new ArrayList<>();
+    this.blueHand = new ArrayList<>();
+    for (int i = 0; i < handSize; i++) {
+      drawCard(Player.RED);
+      drawCard(Player.BLUE);
+    }
+    int words = (rows * cols + 63) >>> 6;
+    owned = new long[2][words];
+    pawnsLow = new long[words];
+    pawnsHigh = new long[words];
+    cardPlaced = new long[words];
+    cards = new Card[rows * cols];
+    rowScores = new int[2][rows];
+    for (int i = 0; i < rows; i++) {
+      setBit(owned[Player.RED.ordinal()], i * cols);
+      setBit(owned[Player.BLUE.ordinal()], i * cols + cols - 1);
+      setBit(pawnsLow, i * cols);
+      setBit(pawnsLow, i * cols + cols - 1);
+      boardHash ^= cellHash(i * cols) ^ cellHash(i * cols + cols - 1);
+    }
+    version++;
+    currentTurn = Player.RED;
+    gameStarted = true;
+    gameOver = false;
+  }
+  //</editor-fold>
+
+  //<editor-fold desc="Getters">
+
+  /**
+   * Returns the number of rows on the board.
+   *
+   * @return the rows
+   */
+  @Override
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the number of columns on the board.
+   *
+   * @return the columns
+   */
+  @Override
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Returns the current total score of the specified player.  Cancels out per row if they have less
+   * than the opposing player, and both are cancelled out if equal.
+   *
+   * @param player the player whose score is returned
+   * @return the player's score
+   * @throws IllegalStateException if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   */
+  @Override
+  public int getTotalScore(Player player) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    int[] mine = rowScores[player.ordinal()];
+    int[] theirs = rowScores[getOtherPlayer(player).ordinal()];
+    int score = 0;
+    for (int i = 0; i < rows; i++) {
+      if (mine[i] > theirs[i]) {
+        score += mine[i];
+      }
+    }
+    return score;
+  }
+
+  /**
+   * Returns the current score of the specified player in the particular row.  Does not account for
+   * cancelling as with total scoring.
+   *
+   * @param player the player whose score is returned
+   * @param row the row to score
+   * @return the player's score
+   * @throws IllegalStateException if game is not in progress
+   * @throws IllegalArgumentException if row is out of bounds
+   *                                  if player is null
+   */
+  @Override
+  public int getRowScore(Player player, int row) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    if (!locationValid(row, 0)) {
+      throw new IllegalArgumentException("Row invalid");
+    }
+    return rowScores[player.ordinal()][row];
+  }
+
+  /**
+   * Returns the current hand of cards belonging to the specified player.
+   *
+   * @param player the player whose hand is returned
+   * @return the player's hand
+   * @throws IllegalStateException    if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   */
+  @Override
+  public List<Card> getHand(Player player) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return new ArrayList<>(getPlayerHand(player));
+  }
+
+  /**
+   * Returns the number of cards in the hand of the specified player, without copying the hand.
+   *
+   * @param player the player whose hand is counted
+   * @return the hand size
+   * @throws IllegalStateException    if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   */
+  @Override
+  public int getHandSize(Player player) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return getPlayerHand(player).size();
+  }
+
+  /**
+   * Returns the card at the given index in the hand of the specified player, without copying the
+   * hand.
+   *
+   * @param player the player whose card is returned
+   * @param handId the index of the card in the player's hand
+   * @return the card
+   * @throws IllegalStateException    if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   *                                  if hand ID is invalid
+   */
+  @Override
+  public Card getHandCard(Player player, int handId) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    List<Card> hand = getPlayerHand(player);
+    if (handId < 0 || handId >= hand.size()) {
+      throw new IllegalArgumentException("Invalid hand id");
+    }
+    return hand.get(handId);
+  }
+
+  /**
+   * Returns the player whose turn it is.
+   *
+   * @return the turn
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public Player getCurrentTurn() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    return currentTurn;
+  }
+
+  /**
+   * Returns the winner, the player with the greater score, or null if tied.
+   *
+   * @return the winning player
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public Player getWinner() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (!isGameOver()) {
+      throw new IllegalStateException("Can only determine winner after game");
+    }
+    int redScore = getTotalScore(Player.RED);
+    int blueScore = getTotalScore(Player.BLUE);
+    if (redScore > blueScore) {
+      return Player.RED;
+    } else if (blueScore > redScore) {
+      return Player.BLUE;
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Returns a copy of the current playing board.
+   *
+   * @return the board
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public Cell[][] getBoard() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    Cell[][] copyBoard = new BoardCell[rows][cols];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < cols; j++) {
+        copyBoard[i][j] = getCellAt(i, j);
+      }
+    }
+    return copyBoard;
+  }
+
+  /**
+   * Returns a copy of the specified cell.
+   *
+   * @param row the row
+   * @param col the column
+   * @return the cell in question
+   * @throws IllegalArgumentException if row and column pair marks an invalid space
+   * @throws IllegalStateException    if game is not in progress
+   */
+  @Override
+  public Cell getCellAt(int row, int col) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (!locationValid(row, col)) {
+      throw new IllegalArgumentException("Invalid location");
+    }
+    int index = row * cols + col;
+    BoardCell copyCell = new BoardCell();
+    Player owner = ownerAt(index);
+    if (getBit(cardPlaced, index)) {
+      copyCell.playCard(cards[index], owner);
+    } else {
+      copyCell.reset(owner, pawnsAt(index));
+    }
+    return copyCell;
+  }
+
+  /**
+   * Returns a read-only snapshot of every cell on the board, valid until the game next changes.
+   * The snapshot reads this game's bit planes in place, and the same snapshot is returned until
+   * then.
+   *
+   * @return the board snapshot
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public BoardSnapshot getBoardSnapshot() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (snapshot == null || snapshot.version != version) {
+      snapshot = new Snapshot(version);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Tells whether game is still in progress.
+   *
+   * @return if the game state is over
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public boolean isGameOver() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    return gameOver;
+  }
+
+  /**
+   * Returns a 64 bit hash of the current position, covering every cell's owner, pawns, and card,
+   * both players' hands, the player to move, whether the last move was a pass, and whether the
+   * game is over.  Uses the same keys as PawnsBoardGame, so equal positions hash equally in both.
+   *
+   * @return the position hash
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public long getPositionHash() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    return boardHash ^ handHash ^ ZobristKeys.state(currentTurn, lastPassed, gameOver);
+  }
+  //</editor-fold>
+
+  //<editor-fold desc="Turn Options">
+
+  /**
+   * Influences the given board starting at the specified row and column.  Each card reaches at
+   * most 2 in any direction from the starting space, while the specifics vary by card.
+   * A card can be placed if the pawns cost for it are within the desired space, and the pawns
+   * belong to the player attempting to place the card.  A new card is drawn to replace it after,
+   * if any remain in the player's deck.
+   *
+   * @param row    the starting cell's row
+   * @param col    the starting cell's column
+   * @param handId the index of the card in the player's hand
+   * @throws IllegalArgumentException hand ID is invalid
+   *                                  if coordinates for row and column are out of bounds.
+   *                                  if desired cell does not have enough owned pawns for the cost
+   *                                  if desired cell has pawns that do not belong to the player
+   * @throws IllegalStateException    if game is not in progress
+   */
+  @Override
+  public void placeCard(int row, int col, int handId) {
+    if (!isMoveValid(row, col, handId, getCurrentTurn())) {
+      throw new IllegalArgumentException("Move invalid");
+    }
+    version++;
+    Card card = getPlayerHand(currentTurn).remove(handId);
+    handHash -= ZobristKeys.hand(currentTurn, card.getId());
+    int index = row * cols + col;
+    boardHash ^= cellHash(index);
+    int word = index >>> 6;
+    long bit = 1L << index;
+    cardPlaced[word] |= bit;
+    pawnsLow[word] &= ~bit;
+    pawnsHigh[word] &= ~bit;
+    cards[index] = card;
+    boardHash ^= cellHash(index);
+    rowScores[currentTurn.ordinal()][row] += card.getValue();
+    lastPassed = false;
+    boolean listening = hasListeners();
+    if (listening) {
+      changedCount = 0;
+      addChangedCell(index);
+    }
+    influenceBoard(row, col, card.getInfluenceMask());
+    Player mover = currentTurn;
+    Card drawn = swapTurn();
+    if (listening) {
+      notifyListeners(new PawnsBoardChange(mover, false, cols, index, handId, card, drawn,
+              Arrays.copyOf(changedCells, changedCount), currentTurn, gameOver));
+    }
+  }
+
+  /**
+   * Returns whether a move for the current player is valid, a move being the placement of
+   * a card onto a location on the board.  A move is valid if the card exists, the location is on
+   * the board, and the location has enough owned pawns by the player to cover the cost of the card.
+   * Cards can also only be played in cells that do not have a card played already.
+   *
+   * @param row the starting cell's row
+   * @param col the starting cell's column
+   * @param handId the index of the card in the player's hand
+   * @param player the player to check validity for
+   * @throws IllegalArgumentException if hand ID is invalid
+   *                                  if player is null
+   *                                  if coordinates for row and column are out of bounds.
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public boolean isMoveValid(int row, int col, int handId, Player player) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    if (!locationValid(row, col)) {
+      throw new IllegalArgumentException("Invalid location");
+    }
+    List<Card> hand = getPlayerHand(player);
+    if (handId < 0 || handId >= hand.size()) {
+      throw new IllegalArgumentException("Invalid hand id");
+    }
+    int index = row * cols + col;
+    return getBit(owned[player.ordinal()], index)
+            && hand.get(handId).getCost() <= pawnsAt(index);
+  }
+
+  /**
+   * Writes every valid move for the specified player into the given buffer, and returns how many
+   * moves were written.  Each move takes three consecutive entries, being its row, column, and
+   * hand index, so move k is stored at buffer[3 * k] through buffer[3 * k + 2].  Moves are ordered
+   * by row, then column, then hand index, the same order a full scan with isMoveValid visits them.
+   * Only the cells holding the player's pawns are visited, by walking the set bits of the
+   * player's plane with cards masked out.
+   *
+   * @param player the player to find moves for
+   * @param buffer the buffer to write moves into
+   * @return the number of moves written
+   * @throws IllegalArgumentException if player or buffer is null
+   *                                  if the buffer cannot hold every valid move
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public int getValidMoves(Player player, int[] buffer) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("Player and buffer cannot be null");
+    }
+    List<Card> hand = getPlayerHand(player);
+    long[] mine = owned[player.ordinal()];
+    int count = 0;
+    for (int word = 0; word < mine.length; word++) {
+      long pawnCells = mine[word] & ~cardPlaced[word];
+      while (pawnCells != 0) {
+        int index = (word << 6) + Long.numberOfTrailingZeros(pawnCells);
+        pawnCells &= pawnCells - 1;
+        int pawns = pawnsAt(index);
+        for (int handId = 0; handId < hand.size(); handId++) {
+          if (hand.get(handId).getCost() <= pawns) {
+            if (buffer.length < 3 * (count + 1)) {
+              throw new IllegalArgumentException("Buffer too small for all valid moves");
+            }
+            buffer[3 * count] = index / cols;
+            buffer[3 * count + 1] = index % cols;
+            buffer[3 * count + 2] = handId;
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Skips the turn of the current player, rather than placing a new card.
+   *
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public void skipTurn() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    version++;
+    if (lastPassed) {
+      gameOver = true;
+    }
+    lastPassed = true;
+    Player mover = currentTurn;
+    Card drawn = swapTurn();
+    if (hasListeners()) {
+      notifyListeners(new PawnsBoardChange(mover, false, cols, -1, -1, null, drawn, new int[0],
+              currentTurn, gameOver));
+    }
+  }
+
+  /**
+   * Adds a listener to be told what each later card placement and skipped turn changed, in a
+   * single change per move.  A listener added more than once is told more than once.
+   *
+   * @param listener the listener to add
+   * @throws IllegalArgumentException if listener is null
+   */
+  @Override
+  public void addListener(PawnsBoardListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    if (listeners == null) {
+      listeners = new CopyOnWriteArrayList<>();
+      changedCells = new int[26];
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener added to this game, if it was added.
+   *
+   * @param listener the listener to remove
+   * @throws IllegalArgumentException if listener is null
+   */
+  @Override
+  public void removeListener(PawnsBoardListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    if (listeners != null) {
+      listeners.remove(listener);
+    }
+  }
+  //</editor-fold>
+
+  //<editor-fold desc="Helpers">
+  private boolean locationValid(int row, int col) {
+    return row >= 0 && row < rows && col >= 0 && col < cols;
+  }
+
+  private static boolean getBit(long[] plane, int index) {
+    return (plane[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static void setBit(long[] plane, int index) {
+    plane[index >>> 6] |= 1L << index;
+  }
+
+  private Player ownerAt(int index) {
+    if (getBit(owned[Player.RED.ordinal()], index)) {
+      return Player.RED;
+    } else if (getBit(owned[Player.BLUE.ordinal()], index)) {
+      return Player.BLUE;
+    }
+    return null;
+  }
+
+  private int pawnsAt(int index) {
+    int pawns = getBit(pawnsLow, index) ? 1 : 0;
+    return getBit(pawnsHigh, index) ? pawns + 2 : pawns;
+  }
+
+  // Returns the card drawn, or null if the deck was empty
+  private Card drawCard(Player deck) {
+    Card[] cards = decks[deck.ordinal()];
+    int cursor = deckCursors[deck.ordinal()];
+    if (cursor == cards.length) {
+      return null;
+    }
+    if (randomDraw) {
+      int index = cursor + rand.nextInt(cards.length - cursor);
+      Card swapped = cards[index];
+      cards[index] = cards[cursor];
+      cards[cursor] = swapped;
+    }
+    Card card = cards[cursor];
+    deckCursors[deck.ordinal()]++;
+    getPlayerHand(deck).add(card);
+    handHash += ZobristKeys.hand(deck, card.getId());
+    return card;
+  }
+
+  // For getting the proper hand, not a copy unlike the public method
+  private List<Card> getPlayerHand(Player player) {
+    if (player == Player.RED) {
+      return redHand;
+    } else {
+      return blueHand;
+    }
+  }
+
+  // Returns the card the new current player drew, or null if none was drawn
+  private Card swapTurn() {
+    currentTurn = getOtherPlayer(currentTurn);
+    Card drawn = null;
+    if (firstTurnOver) {
+      drawn = drawCard(currentTurn);
+    }
+    firstTurnOver = true;
+    return drawn;
+  }
+
+  /**
+   * Spreads influence one card row at a time.  Each row of the 5x5 pattern is a 5 bit run, which
+   * is clipped to the board's columns and shifted onto the cells it covers, landing in at most two
+   * words of each plane.
+   */
+  private void influenceBoard(int row, int col, int mask) {
+    for (int i = -2; i <= 2; i++) {
+      if (row + i < 0 || row + i >= rows) {
+        continue;
+      }
+      int pattern = (mask >>> ((i + 2) * 5)) & 0x1F;
+      int start = col - 2;
+      if (start < 0) {
+        pattern >>>= -start;
+        start = 0;
+      }
+      if (cols - start < 5) {
+        pattern &= (1 << (cols - start)) - 1;
+      }
+      if (pattern == 0) {
+        continue;
+      }
+      int index = (row + i) * cols + start;
+      int word = index >>> 6;
+      int offset = index & 63;
+      influenceWord(word, (long) pattern << offset);
+      if (offset > 59) {
+        influenceWord(word + 1, (long) pattern >>> (64 - offset));
+      }
+    }
+  }
+
+  /**
+   * Influences every cell marked in the given word of the planes at once.  Empty cells gain a
+   * pawn for the current player, the opponent's pawns are taken over, and the current player's own
+   * pawns are incremented up to the maximum of three.  Cells with cards are left untouched.
+   */
+  private void influenceWord(int word, long mask) {
+    long[] mine = owned[currentTurn.ordinal()];
+    long[] theirs = owned[getOtherPlayer(currentTurn).ordinal()];
+    long cellsHit = mask & ~cardPlaced[word];
+    long empty = cellsHit & ~mine[word] & ~theirs[word];
+    long stolen = cellsHit & theirs[word];
+    long increment = cellsHit & mine[word] & ~(pawnsLow[word] & pawnsHigh[word]);
+    long changed = empty | stolen | increment;
+    if (hasListeners()) {
+      for (long bits = changed; bits != 0; bits &= bits - 1) {
+        addChangedCell((word << 6) + Long.numberOfTrailingZeros(bits));
+      }
+    }
+    hashCells(word, changed);
+    pawnsHigh[word] |= pawnsLow[word] & increment;
+    pawnsLow[word] ^= increment;
+    pawnsLow[word] |= empty;
+    theirs[word] &= ~stolen;
+    mine[word] |= empty | stolen;
+    hashCells(word, changed);
+  }
+
+  private void addChangedCell(int index) {
+    if (changedCount == changedCells.length) {
+      changedCells = Arrays.copyOf(changedCells, changedCount * 2);
+    }
+    changedCells[changedCount++] = index;
+  }
+
+  private boolean hasListeners() {
+    return listeners != null && !listeners.isEmpty();
+  }
+
+  private void notifyListeners(PawnsBoardChange change) {
+    for (PawnsBoardListener listener : listeners) {
+      listener.boardChanged(change);
+    }
+  }
+
+  // Toggles the keys of the given cells in the hash, once before and once after they change
+  private void hashCells(int word, long cellBits) {
+    while (cellBits != 0) {
+      boardHash ^= cellHash((word << 6) + Long.numberOfTrailingZeros(cellBits));
+      cellBits &= cellBits - 1;
+    }
+  }
+
+  private long cellHash(int index) {
+    if (getBit(cardPlaced, index)) {
+      return ZobristKeys.card(index, ownerAt(index), cards[index].getId());
+    }
+    return ZobristKeys.pawns(index, ownerAt(index), pawnsAt(index));
+  }
+
+  private Player getOtherPlayer(Player player) {
+    if (player == Player.RED) {
+      return Player.BLUE;
+    } else {
+      return Player.RED;
+    }
+  }
+  //</editor-fold>
+
+  // Reads this game's bit planes in place, for as long as the game is unchanged
+  private final class Snapshot implements BoardSnapshot {
+    private final int version;
+
+    private Snapshot(int version) {
+      this.version = version;
+    }
+
+    @Override
+    public int getRows() {
+      return rows;
+    }
+
+    @Override
+    public int getCols() {
+      return cols;
+    }
+
+    @Override
+    public Player getOwner(int row, int col) {
+      return ownerAt(indexOf(row, col));
+    }
+
+    @Override
+    public int getPawns(int row, int col) {
+      return pawnsAt(indexOf(row, col));
+    }
+
+    @Override
+    public Card getCard(int row, int col) {
+      return cards[indexOf(row, col)];
+    }
+
+    @Override
+    public boolean isCurrent() {
+      return version == BitboardPawnsBoard.this.version;
+    }
+
+    private int indexOf(int row, int col) {
+      if (!isCurrent()) {
+        throw new IllegalStateException("Game changed since snapshot was taken");
+      }
+      if (!locationValid(row, col)) {
+        throw new IllegalArgumentException("Invalid location");
+      }
+      return row * cols + col;
+    }
+  }
+}
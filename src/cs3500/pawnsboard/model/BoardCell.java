@@ -51,8 +51,7 @@ public class BoardCell implements Cell {
     if (!cardPlayed) {
       return null;
     }
-    return new PawnsCard(card.getName(), card.getCost(),
-            card.getValue(), card.getInfluence());
+    return card;
   }
 
   /**
@@ -136,9 +135,37 @@ public class BoardCell implements Cell {
     if (card == null || owner == null) {
       throw new IllegalArgumentException("Cannot play null card or null player");
     }
-    this.card = card;
+    this.card = PawnsCard.intern(card);
     this.owner = owner;
     pawns = 0;
     cardPlayed = true;
   }
+
+  /**
+   * Returns a separate cell in the same state as this one.
+   *
+   * @return the copy
+   */
+  BoardCell copy() {
+    BoardCell copy = new BoardCell();
+    copy.owner = owner;
+    copy.pawns = pawns;
+    copy.card = card;
+    copy.cardPlayed = cardPlayed;
+    return copy;
+  }
+
+  /**
+   * Puts this cell back into a card-free state with the given owner and pawns, used by the game
+   * to take back moves.
+   *
+   * @param owner the owner, or null if the cell is empty
+   * @param pawns the number of pawns
+   */
+  void reset(Player owner, int pawns) {
+    this.owner = owner;
+    this.pawns = pawns;
+    this.card = null;
+    this.cardPlayed = false;
+  }
 }
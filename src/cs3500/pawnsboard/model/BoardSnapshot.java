@@ -0,0 +1,66 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * A read-only look at every cell of a game of pawns board as it stood when the snapshot was taken.
+ * Snapshots from the games in this package read the game's own state rather than copying it, so
+ * taking and reading one allocates next to nothing, but they are only valid until the game next
+ * changes.  Reading a snapshot after that fails rather than showing a mix of old and new cells.
+ */
+public interface BoardSnapshot {
+
+  /**
+   * Returns the number of rows on the board.
+   *
+   * @return the rows
+   */
+  int getRows();
+
+  /**
+   * Returns the number of columns on the board.
+   *
+   * @return the columns
+   */
+  int getCols();
+
+  /**
+   * Returns the owner of the pawns or card in the specified cell, or null if the cell is empty.
+   *
+   * @param row the cell's row
+   * @param col the cell's column
+   * @return the cell's owner
+   * @throws IllegalArgumentException if coordinates for row and column are out of bounds
+   * @throws IllegalStateException if the game has changed since the snapshot was taken
+   */
+  Player getOwner(int row, int col);
+
+  /**
+   * Returns the number of pawns in the specified cell, which is 0 if a card was played there.
+   *
+   * @param row the cell's row
+   * @param col the cell's column
+   * @return the cell's pawns
+   * @throws IllegalArgumentException if coordinates for row and column are out of bounds
+   * @throws IllegalStateException if the game has changed since the snapshot was taken
+   */
+  int getPawns(int row, int col);
+
+  /**
+   * Returns the card played in the specified cell, or null if none was played there.
+   *
+   * @param row the cell's row
+   * @param col the cell's column
+   * @return the cell's card
+   * @throws IllegalArgumentException if coordinates for row and column are out of bounds
+   * @throws IllegalStateException if the game has changed since the snapshot was taken
+   */
+  Card getCard(int row, int col);
+
+  /**
+   * Returns whether the game is unchanged since the snapshot was taken, so it can still be read.
+   * A snapshot copied by the default getBoardSnapshot counts the game as unchanged for as long as
+   * its position hash is.
+   *
+   * @return if the snapshot is still valid
+   */
+  boolean isCurrent();
+}
@@ -1,5 +1,7 @@
 package cs3500.pawnsboard.model;
 
+import java.util.Objects;
+
 /**
  * Interface for a playable card during a game of pawns board, with a unique name, cost, point
  * value, and influence pattern.  Used to make moves during a game.
@@ -31,4 +33,54 @@ public interface Card {
    * Returns the influence grid for this card.
    */
   boolean[][] getInfluence();
+
+  /**
+   * Returns the influence grid for this card packed into 25 bits, with grid cell (i, j) at bit
+   * (i * 5 + j).  By default packs the grid from getInfluence on every call, implementations
+   * which keep the mask should override this.
+   *
+   * @return the influence mask
+   */
+  default int getInfluenceMask() {
+    boolean[][] influence = getInfluence();
+    int mask = 0;
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        if (influence[i][j]) {
+          mask |= 1 << (i * 5 + j);
+        }
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the influence mask of this card mirrored horizontally.  By default mirrors the mask
+   * from getInfluenceMask on every call, implementations which keep it should override this.
+   *
+   * @return the mirrored influence mask
+   */
+  default int getMirroredInfluenceMask() {
+    int mask = getInfluenceMask();
+    int mirrored = 0;
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        if ((mask & (1 << (i * 5 + j))) != 0) {
+          mirrored |= 1 << (i * 5 + 4 - j);
+        }
+      }
+    }
+    return mirrored;
+  }
+
+  /**
+   * Returns the id of this card, shared by all cards equal to it.  By default a hash of the
+   * name, cost, value, and influence mask, so distinct cards may rarely share an id;
+   * implementations which number their cards should override this.
+   *
+   * @return the id
+   */
+  default int getId() {
+    return Objects.hash(getName(), getCost(), getValue(), getInfluenceMask());
+  }
 }
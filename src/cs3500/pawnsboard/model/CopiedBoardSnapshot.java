@@ -0,0 +1,72 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * A snapshot holding its own copy of every cell, for games which cannot be read in place.
+ * Although the copy itself never changes, it stops being current once the game's position hash
+ * changes, so it fails on reads after the game moves on just as an in-place snapshot does.
+ */
+final class CopiedBoardSnapshot implements BoardSnapshot {
+
+  private final PawnsBoardReadOnly game;
+  private final Cell[][] cells;
+  private final int cols;
+  private final long hash;
+
+  /**
+   * Copies the board of the given game.
+   *
+   * @param game the game to copy
+   * @throws IllegalStateException if game is not in progress
+   *                               if the game gives no board to copy
+   */
+  CopiedBoardSnapshot(PawnsBoardReadOnly game) {
+    Cell[][] cells = game.getBoard();
+    if (cells == null) {
+      throw new IllegalStateException("Game has no board to copy");
+    }
+    this.game = game;
+    this.cells = cells;
+    this.cols = game.getCols();
+    this.hash = game.getPositionHash();
+  }
+
+  @Override
+  public int getRows() {
+    return cells.length;
+  }
+
+  @Override
+  public int getCols() {
+    return cols;
+  }
+
+  @Override
+  public Player getOwner(int row, int col) {
+    return cellAt(row, col).getOwner();
+  }
+
+  @Override
+  public int getPawns(int row, int col) {
+    return cellAt(row, col).getPawns();
+  }
+
+  @Override
+  public Card getCard(int row, int col) {
+    return cellAt(row, col).getCard();
+  }
+
+  @Override
+  public boolean isCurrent() {
+    return game.getPositionHash() == hash;
+  }
+
+  private Cell cellAt(int row, int col) {
+    if (!isCurrent()) {
+      throw new IllegalStateException("Game changed since snapshot was taken");
+    }
+    if (row < 0 || row >= cells.length || col < 0 || col >= cols) {
+      throw new IllegalArgumentException("Invalid location");
+    }
+    return cells[row][col];
+  }
+}
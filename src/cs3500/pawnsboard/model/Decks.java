@@ -0,0 +1,48 @@
+package cs3500.pawnsboard.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helpers for the decks given to a game of pawns board, shared by every model.
+ */
+final class Decks {
+
+  private Decks() {
+  }
+
+  /**
+   * Returns a copy of the given deck with each card replaced by its canonical instance, checking
+   * in the same pass that no card appears more than twice.  Copies are counted in an open
+   * addressed table of canonical cards, probed with each card's cached hash, so the check takes
+   * time linear in the size of the deck.
+   *
+   * @param deck the deck to check
+   * @return the interned deck
+   * @throws IllegalArgumentException if the deck contains null
+   *                                  if the deck contains more than 2 of the same card
+   */
+  static List<Card> internDeck(List<Card> deck) {
+    int capacity = Integer.highestOneBit(Math.max(2, deck.size()) * 2 - 1) << 1;
+    PawnsCard[] seen = new PawnsCard[capacity];
+    byte[] copies = new byte[capacity];
+    List<Card> interned = new ArrayList<>(deck.size());
+    for (Card card : deck) {
+      if (card == null) {
+        throw new IllegalArgumentException("Decks cannot contain null");
+      }
+      PawnsCard canonical = PawnsCard.intern(card);
+      int hash = canonical.hashCode() * 0x9E3779B9;
+      int slot = (hash ^ (hash >>> 16)) & (capacity - 1);
+      while (seen[slot] != null && seen[slot] != canonical) {
+        slot = (slot + 1) & (capacity - 1);
+      }
+      seen[slot] = canonical;
+      if (++copies[slot] > 2) {
+        throw new IllegalArgumentException("Decks cannot contain more than 2 of the same card");
+      }
+      interned.add(canonical);
+    }
+    return interned;
+  }
+}
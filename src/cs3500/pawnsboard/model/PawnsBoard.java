@@ -61,4 +61,21 @@ public interface PawnsBoard extends PawnsBoardReadOnly {
    * @throws IllegalStateException if game is not in progress
    */
   void skipTurn();
+
+  /**
+   * Adds a listener to be told what each later card placement and skipped turn changed, in a
+   * single change per move.  A listener added more than once is told more than once.
+   *
+   * @param listener the listener to add
+   * @throws IllegalArgumentException if listener is null
+   */
+  void addListener(PawnsBoardListener listener);
+
+  /**
+   * Removes a listener added to this game, if it was added.
+   *
+   * @param listener the listener to remove
+   * @throws IllegalArgumentException if listener is null
+   */
+  void removeListener(PawnsBoardListener listener);
 }
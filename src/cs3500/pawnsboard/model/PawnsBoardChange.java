@@ -0,0 +1,180 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * What a single move changed in a game of pawns board, told to its listeners once the move is
+ * made.  A move is a card placement or skipped turn, or one of those being taken back.
+ * Only the cells whose owner, pawns, or card changed are listed, and only the row a card is placed
+ * in or taken back from can change either player's row score.  A placed card leaves its mover's
+ * hand at its hand index, and a drawn card joins the end of the new current player's hand.
+ * When a move is taken back, the placed card returns to its hand index and the drawn card leaves
+ * the end of the hand it joined.
+ */
+public final class PawnsBoardChange {
+
+  private final Player mover;
+  private final boolean undo;
+  private final int cols;
+  private final int placed;
+  private final int handId;
+  private final Card placedCard;
+  private final Card drawnCard;
+  private final int[] changedCells;
+  private final Player currentTurn;
+  private final boolean gameOver;
+
+  /**
+   * Creates the change made by a move.
+   *
+   * @param mover the player who made the move
+   * @param undo whether the move was taken back rather than made
+   * @param cols number of columns on the board
+   * @param placed index of the cell the card was placed in, as row * cols + col, or -1 for a pass
+   * @param handId the hand index of the placed card, or -1 for a pass
+   * @param placedCard the placed card, or null for a pass
+   * @param drawnCard the card drawn by the other player, or null if none was drawn
+   * @param changedCells indexes of the changed cells, as row * cols + col, which are not copied
+   * @param currentTurn the player to move after the change
+   * @param gameOver whether the game is over after the change
+   */
+  PawnsBoardChange(Player mover, boolean undo, int cols, int placed, int handId, Card placedCard,
+                   Card drawnCard, int[] changedCells, Player currentTurn, boolean gameOver) {
+    this.mover = mover;
+    this.undo = undo;
+    this.cols = cols;
+    this.placed = placed;
+    this.handId = handId;
+    this.placedCard = placedCard;
+    this.drawnCard = drawnCard;
+    this.changedCells = changedCells;
+    this.currentTurn = currentTurn;
+    this.gameOver = gameOver;
+  }
+
+  /**
+   * Returns the player who made the move.
+   *
+   * @return the mover
+   */
+  public Player getMover() {
+    return mover;
+  }
+
+  /**
+   * Returns whether the move was taken back, rather than made.
+   *
+   * @return if this change undid the move
+   */
+  public boolean isUndo() {
+    return undo;
+  }
+
+  /**
+   * Returns whether the move was a skipped turn.
+   *
+   * @return if the move was a pass
+   */
+  public boolean isPass() {
+    return placed < 0;
+  }
+
+  /**
+   * Returns the row the card was placed in, whose row scores may have changed, or -1 for a pass.
+   *
+   * @return the placed row
+   */
+  public int getPlacedRow() {
+    return placed < 0 ? -1 : placed / cols;
+  }
+
+  /**
+   * Returns the column the card was placed in, or -1 for a pass.
+   *
+   * @return the placed column
+   */
+  public int getPlacedCol() {
+    return placed < 0 ? -1 : placed % cols;
+  }
+
+  /**
+   * Returns the index in the mover's hand the placed card was played from, or -1 for a pass.
+   *
+   * @return the hand index
+   */
+  public int getHandId() {
+    return handId;
+  }
+
+  /**
+   * Returns the placed card, or null for a pass.
+   *
+   * @return the placed card
+   */
+  public Card getPlacedCard() {
+    return placedCard;
+  }
+
+  /**
+   * Returns the card the other player drew after the move, or null if none was drawn.
+   *
+   * @return the drawn card
+   */
+  public Card getDrawnCard() {
+    return drawnCard;
+  }
+
+  /**
+   * Returns the number of cells whose owner, pawns, or card changed.
+   *
+   * @return the number of changed cells
+   */
+  public int getChangedCellCount() {
+    return changedCells.length;
+  }
+
+  /**
+   * Returns the row of the changed cell at the given index.
+   *
+   * @param index the index among the changed cells
+   * @return the cell's row
+   * @throws IllegalArgumentException if the index is out of bounds
+   */
+  public int getChangedRow(int index) {
+    return changedCell(index) / cols;
+  }
+
+  /**
+   * Returns the column of the changed cell at the given index.
+   *
+   * @param index the index among the changed cells
+   * @return the cell's column
+   * @throws IllegalArgumentException if the index is out of bounds
+   */
+  public int getChangedCol(int index) {
+    return changedCell(index) % cols;
+  }
+
+  /**
+   * Returns the player to move after the change.
+   *
+   * @return the current player
+   */
+  public Player getCurrentTurn() {
+    return currentTurn;
+  }
+
+  /**
+   * Returns whether the game is over after the change.
+   *
+   * @return if the game is over
+   */
+  public boolean isGameOver() {
+    return gameOver;
+  }
+
+  private int changedCell(int index) {
+    if (index < 0 || index >= changedCells.length) {
+      throw new IllegalArgumentException("Invalid changed cell index");
+    }
+    return changedCells[index];
+  }
+}
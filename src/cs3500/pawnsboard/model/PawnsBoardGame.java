@@ -1,10 +1,10 @@
 package cs3500.pawnsboard.model;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A game of pawns board.  The game begins with an empty board of specified dimensions, with the
@@ -17,7 +17,7 @@ import java.util.Random;
  * player with the most points from the rows they claimed is the victor at the end, or it ends in a
  * draw.
  */
-public class PawnsBoardGame implements PawnsBoard {
+public class PawnsBoardGame implements SearchablePawnsBoard {
 
   //<editor-fold desc="Fields">
   private final int rows;
@@ -29,14 +29,40 @@ public class PawnsBoardGame implements PawnsBoard {
 
   // Is 0 indexed, and (row, col) ordered for all calls
   private Cell[][] board;
+  // Rows whose cells may also belong to a fork of this game, and must be copied before writing
+  private boolean[] sharedRows;
+  // Running total of placed card values per row, indexed by player ordinal then row
+  private int[][] rowScores;
 
-  private List<Card> redDeck;
+  // Decks indexed by player ordinal, drawn from the front at each player's cursor.  A random draw
+  // first swaps a random undrawn card to the cursor, shuffling the deck one step per draw
+  private Card[][] decks;
+  private int[] deckCursors;
+  // Whether the decks may also belong to a fork of this game, and must be copied before swapping
+  private boolean decksShared;
   private List<Card> redHand;
-  private List<Card> blueDeck;
   private List<Card> blueHand;
   private Player currentTurn;
   private boolean lastPassed = false;
   private boolean firstTurnOver = false;
+
+  // Undo stack.  Each move pushes one entry per cell it changed, packed as
+  // (cell index << 4 | owner << 2 | pawns) with owner 0 for none, followed by a header of
+  // placed cell index, hand id, drawn deck index, state flags, and the number of changed cells
+  private int[] history = new int[16];
+  private int historySize;
+
+  // Position hash, kept as the xor of every occupied cell's key and the sum of every hand card's
+  // key, with the turn and pass state mixed in when read
+  private long boardHash;
+  private long handHash;
+
+  // Listeners told of each move, created when the first is added.  Forks start without any
+  private List<PawnsBoardListener> listeners;
+
+  // Counts every change to the game, so snapshots can tell when they are out of date
+  private int version;
+  private Snapshot snapshot;
   //</editor-fold>
 
   //<editor-fold desc="Constructors">
@@ -84,6 +110,31 @@ public class PawnsBoardGame implements PawnsBoard {
     this.cols = cols;
     this.rand = rand;
   }
+
+  // Creates a fork of a started game, sharing its rows until either side writes to them
+  private PawnsBoardGame(PawnsBoardGame other, Random rand) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.rand = rand;
+    this.randomDraw = other.randomDraw;
+    this.gameStarted = true;
+    this.gameOver = other.gameOver;
+    Arrays.fill(other.sharedRows, true);
+    this.board = other.board.clone();
+    this.sharedRows = other.sharedRows.clone();
+    this.rowScores = new int[][] {other.rowScores[0].clone(), other.rowScores[1].clone()};
+    other.decksShared = true;
+    this.decks = other.decks.clone();
+    this.deckCursors = other.deckCursors.clone();
+    this.decksShared = true;
+    this.redHand = new ArrayList<>(other.redHand);
+    this.blueHand = new ArrayList<>(other.blueHand);
+    this.currentTurn = other.currentTurn;
+    this.lastPassed = other.lastPassed;
+    this.firstTurnOver = other.firstTurnOver;
+    this.boardHash = other.boardHash;
+    this.handHash = other.handHash;
+  }
   //</editor-fold>
 
   //<editor-fold desc="Game Starters">
@@ -116,37 +167,19 @@ public class PawnsBoardGame implements PawnsBoard {
     if (redDeck == null || blueDeck == null) {
       throw new IllegalArgumentException("Decks cannot be null");
     }
-    if (redDeck.stream().anyMatch(Objects::isNull) || blueDeck.stream().anyMatch(Objects::isNull)) {
-      throw new IllegalArgumentException("Decks cannot contain null");
-    }
-    for (Card card : redDeck) {
-      if (Collections.frequency(redDeck, card) > 2) {
-        throw new IllegalArgumentException("Decks cannot contain more than 2 of the same card");
-      }
-    }
-    for (Card card : blueDeck) {
-      if (Collections.frequency(blueDeck, card) > 2) {
-        throw new IllegalArgumentException("Decks cannot contain more than 2 of the same card");
-      }
-    }
-    assertDeckValidity(redDeck, blueDeck, handSize);
-    List<Card> newRedDeck = new ArrayList<>();
-    List<Card> newBlueDeck = new ArrayList<>();
-    for (Card card : redDeck) {
-      newRedDeck.add(new PawnsCard(card.getName(), card.getCost(), card.getValue(),
-              card.getInfluence()));
-    }
-    for (Card card : blueDeck) {
-      newBlueDeck.add(new PawnsCard(card.getName(), card.getCost(), card.getValue(),
-              card.getInfluence()));
-    }
-    this.redDeck = newRedDeck;
-    this.blueDeck = newBlueDeck;
+    List<Card> newRedDeck = Decks.internDeck(redDeck);
+    List<Card> newBlueDeck = Decks.internDeck(blueDeck);
+    assertDeckValidity(newRedDeck, newBlueDeck, handSize);
+    this.decks = new Card[][] {newRedDeck.toArray(new Card[0]), newBlueDeck.toArray(new Card[0])};
+    this.deckCursors = new int[2];
+    this.decksShared = false;
     this.randomDraw = randomDraw;
     setupGame(handSize);
   }
 
   private void setupGame(int handSize) {
+    boardHash = 0;
+    handHash = 0;
     this.redHand = new ArrayList<>();
     this.blueHand = new ArrayList<>();
     for (int i = 0; i < handSize; i++) {
@@ -169,6 +202,13 @@ public class PawnsBoardGame implements PawnsBoard {
         }
       }
     }
+    for (int i = 0; i < rows; i++) {
+      boardHash ^= cellHash(i, 0) ^ cellHash(i, cols - 1);
+    }
+    sharedRows = new boolean[rows];
+    rowScores = new int[2][rows];
+    historySize = 0;
+    version++;
     currentTurn = Player.RED;
     gameStarted = true;
     gameOver = false;
@@ -221,10 +261,12 @@ public class PawnsBoardGame implements PawnsBoard {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null");
     }
+    int[] mine = rowScores[player.ordinal()];
+    int[] theirs = rowScores[getOtherPlayer(player).ordinal()];
     int score = 0;
     for (int i = 0; i < rows; i++) {
-      if (getRowScore(player, i) > getRowScore(getOtherPlayer(player), i)) {
-        score += getRowScore(player, i);
+      if (mine[i] > theirs[i]) {
+        score += mine[i];
       }
     }
     return score;
@@ -252,14 +294,7 @@ public class PawnsBoardGame implements PawnsBoard {
     if (!locationValid(row, 0)) {
       throw new IllegalArgumentException("Row invalid");
     }
-    int score = 0;
-    for (int j = 0; j < cols; j++) {
-      Cell cell = getCellAt(row, j);
-      if (cell.getOwner() == player && cell.getCard() != null) {
-        score += cell.getCard().getValue();
-      }
-    }
-    return score;
+    return rowScores[player.ordinal()][row];
   }
 
   /**
@@ -278,19 +313,57 @@ public class PawnsBoardGame implements PawnsBoard {
     if (player == null) {
       throw new IllegalArgumentException("Player cannot be null");
     }
-    List<Card> hand = new ArrayList<>();
+    // Cards held by the game are interned and immutable, so only the list itself is copied
     if (player == Player.RED) {
-      for (Card card : redHand) {
-        hand.add(new PawnsCard(card.getName(), card.getCost(),
-                card.getValue(), card.getInfluence()));
-      }
+      return new ArrayList<>(redHand);
     } else {
-      for (Card card : blueHand) {
-        hand.add(new PawnsCard(card.getName(), card.getCost(),
-                card.getValue(), card.getInfluence()));
-      }
+      return new ArrayList<>(blueHand);
+    }
+  }
+
+  /**
+   * Returns the number of cards in the hand of the specified player, without copying the hand.
+   *
+   * @param player the player whose hand is counted
+   * @return the hand size
+   * @throws IllegalStateException    if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   */
+  @Override
+  public int getHandSize(Player player) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return getPlayerHand(player).size();
+  }
+
+  /**
+   * Returns the card at the given index in the hand of the specified player, without copying the
+   * hand.
+   *
+   * @param player the player whose card is returned
+   * @param handId the index of the card in the player's hand
+   * @return the card
+   * @throws IllegalStateException    if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   *                                  if hand ID is invalid
+   */
+  @Override
+  public Card getHandCard(Player player, int handId) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    List<Card> hand = getPlayerHand(player);
+    if (handId < 0 || handId >= hand.size()) {
+      throw new IllegalArgumentException("Invalid hand id");
     }
-    return hand;
+    return hand.get(handId);
   }
 
   /**
@@ -346,7 +419,7 @@ public class PawnsBoardGame implements PawnsBoard {
     Cell[][] copyBoard = new BoardCell[rows][cols];
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < cols; j++) {
-        copyBoard[i][j] = getCellAt(i, j);
+        copyBoard[i][j] = ((BoardCell) board[i][j]).copy();
       }
     }
     return copyBoard;
@@ -369,17 +442,25 @@ public class PawnsBoardGame implements PawnsBoard {
     if (!locationValid(row, col)) {
       throw new IllegalArgumentException("Invalid location");
     }
-    Cell cell = board[row][col];
-    Cell copyCell = new BoardCell();
-    if (cell.getCard() != null) {
-      copyCell.playCard(cell.getCard(), cell.getOwner());
-    } else if (cell.getPawns() > 0) {
-      copyCell.addPawn(cell.getOwner());
-      for (int i = 0; i < cell.getPawns() - 1; i++) {
-        copyCell.addPawn();
-      }
+    return ((BoardCell) board[row][col]).copy();
+  }
+
+  /**
+   * Returns a read-only snapshot of every cell on the board, valid until the game next changes.
+   * The snapshot reads this game's cells in place, and the same snapshot is returned until then.
+   *
+   * @return the board snapshot
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public BoardSnapshot getBoardSnapshot() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
     }
-    return copyCell;
+    if (snapshot == null || snapshot.version != version) {
+      snapshot = new Snapshot(version);
+    }
+    return snapshot;
   }
 
   /**
@@ -395,6 +476,22 @@ public class PawnsBoardGame implements PawnsBoard {
     }
     return gameOver;
   }
+
+  /**
+   * Returns a 64 bit hash of the current position, covering every cell's owner, pawns, and card,
+   * both players' hands, the player to move, whether the last move was a pass, and whether the
+   * game is over.  Kept up to date as moves are made, so reading it is constant time.
+   *
+   * @return the position hash
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public long getPositionHash() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    return boardHash ^ handHash ^ ZobristKeys.state(currentTurn, lastPassed, gameOver);
+  }
   //</editor-fold>
 
   //<editor-fold desc="Turn Options">
@@ -420,11 +517,33 @@ public class PawnsBoardGame implements PawnsBoard {
     if (!isMoveValid(row, col, handId, getCurrentTurn())) {
       throw new IllegalArgumentException("Move invalid");
     }
+    int historyStart = historySize;
+    int flags = stateFlags();
     Card card = getCurrentPlayerHand().remove(handId);
-    board[row][col].playCard(card, getCurrentTurn());
+    handHash -= ZobristKeys.hand(getCurrentTurn(), card.getId());
+    recordCell(row, col);
+    boardHash ^= cellHash(row, col);
+    writableCell(row, col).playCard(card, getCurrentTurn());
+    boardHash ^= cellHash(row, col);
+    // Placed cards never change owner, so the row tally only ever grows by the card's value
+    rowScores[getCurrentTurn().ordinal()][row] += card.getValue();
     lastPassed = false;
     influenceBoard(row, col, card);
-    swapTurn();
+    int changedCells = historySize - historyStart;
+    int drawn = swapTurn();
+    recordMove(row * cols + col, handId, drawn, flags, changedCells);
+    if (hasListeners()) {
+      int[] changed = new int[changedCells];
+      int count = 0;
+      for (int i = historyStart; i < historyStart + changedCells; i++) {
+        if (!cellMatches(history[i])) {
+          changed[count++] = history[i] >>> 4;
+        }
+      }
+      notifyListeners(new PawnsBoardChange(getOtherPlayer(currentTurn), false, cols,
+              row * cols + col, handId, card, drawn >= 0 ? lastCard(currentTurn) : null,
+              Arrays.copyOf(changed, count), currentTurn, gameOver));
+    }
   }
 
   /**
@@ -442,6 +561,7 @@ public class PawnsBoardGame implements PawnsBoard {
    *                                  if coordinates for row and column are out of bounds.
    * @throws IllegalStateException if game is not in progress
    */
+  @Override
   public boolean isMoveValid(int row, int col, int handId, Player player) {
     if (!gameStarted) {
       throw new IllegalStateException("Game not started");
@@ -452,12 +572,57 @@ public class PawnsBoardGame implements PawnsBoard {
     if (!locationValid(row, col)) {
       throw new IllegalArgumentException("Invalid location");
     }
-    if (handId < 0 || handId >= getCurrentPlayerHand().size()) {
+    List<Card> hand = getPlayerHand(player);
+    if (handId < 0 || handId >= hand.size()) {
       throw new IllegalArgumentException("Invalid hand id");
     }
-    Card card = getHand(player).remove(handId);
-    Cell cell = getCellAt(row, col);
-    return !(card.getCost() > cell.getPawns() || cell.getOwner() != player);
+    Cell cell = board[row][col];
+    return !(hand.get(handId).getCost() > cell.getPawns() || cell.getOwner() != player);
+  }
+
+  /**
+   * Writes every valid move for the specified player into the given buffer, and returns how many
+   * moves were written.  Each move takes three consecutive entries, being its row, column, and
+   * hand index, so move k is stored at buffer[3 * k] through buffer[3 * k + 2].  Moves are ordered
+   * by row, then column, then hand index, the same order a full scan with isMoveValid visits them.
+   *
+   * @param player the player to find moves for
+   * @param buffer the buffer to write moves into
+   * @return the number of moves written
+   * @throws IllegalArgumentException if player or buffer is null
+   *                                  if the buffer cannot hold every valid move
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public int getValidMoves(Player player, int[] buffer) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("Player and buffer cannot be null");
+    }
+    List<Card> hand = getPlayerHand(player);
+    int count = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        Cell cell = board[row][col];
+        if (cell.getOwner() != player || cell.getPawns() == 0) {
+          continue;
+        }
+        for (int handId = 0; handId < hand.size(); handId++) {
+          if (hand.get(handId).getCost() <= cell.getPawns()) {
+            if (buffer.length < 3 * (count + 1)) {
+              throw new IllegalArgumentException("Buffer too small for all valid moves");
+            }
+            buffer[3 * count] = row;
+            buffer[3 * count + 1] = col;
+            buffer[3 * count + 2] = handId;
+            count++;
+          }
+        }
+      }
+    }
+    return count;
   }
 
   /**
@@ -470,11 +635,168 @@ public class PawnsBoardGame implements PawnsBoard {
     if (!gameStarted) {
       throw new IllegalStateException("Game not started");
     }
+    int flags = stateFlags();
     if (lastPassed) {
       gameOver = true;
     }
     lastPassed = true;
-    swapTurn();
+    int drawn = swapTurn();
+    recordMove(-1, -1, drawn, flags, 0);
+    if (hasListeners()) {
+      notifyListeners(new PawnsBoardChange(getOtherPlayer(currentTurn), false, cols, -1, -1, null,
+              drawn >= 0 ? lastCard(currentTurn) : null, new int[0], currentTurn, gameOver));
+    }
+  }
+
+  /**
+   * Takes back the most recent card placement or skipped turn, restoring the board, both hands,
+   * both decks, the turn, and whether the game is over to how they were before it.  Cards drawn
+   * at the end of the move are returned to the position in the deck they were drawn from, however
+   * a random used for drawing is not rewound.
+   * Runs in time proportional to the number of cells the move changed.
+   * Listeners are told what taking it back changed, as a change marked as an undo.
+   *
+   * @throws IllegalStateException if game is not in progress
+   *                               if there are no moves to take back
+   */
+  @Override
+  public void undoMove() {
+    if (!canUndo()) {
+      throw new IllegalStateException("No moves to undo");
+    }
+    version++;
+    int changedCells = history[--historySize];
+    int flags = history[--historySize];
+    int drawn = history[--historySize];
+    int handId = history[--historySize];
+    int placed = history[--historySize];
+    Player mover = (flags & MOVER_BLUE) != 0 ? Player.BLUE : Player.RED;
+    Card drawnCard = null;
+    Card placedCard = null;
+    if (drawn >= 0) {
+      Player drawer = getOtherPlayer(mover);
+      List<Card> hand = getPlayerHand(drawer);
+      Card card = hand.remove(hand.size() - 1);
+      drawnCard = card;
+      handHash -= ZobristKeys.hand(drawer, card.getId());
+      int cursor = --deckCursors[drawer.ordinal()];
+      if (drawn != cursor) {
+        swapDeckCards(drawer.ordinal(), cursor, drawn);
+      }
+    }
+    if (placed >= 0) {
+      Card card = board[placed / cols][placed % cols].getCard();
+      placedCard = card;
+      getPlayerHand(mover).add(handId, card);
+      handHash += ZobristKeys.hand(mover, card.getId());
+      rowScores[mover.ordinal()][placed / cols] -= card.getValue();
+    }
+    boolean listening = hasListeners();
+    int[] changed = listening ? new int[changedCells] : null;
+    int count = 0;
+    for (int i = 0; i < changedCells; i++) {
+      int entry = history[--historySize];
+      int index = entry >>> 4;
+      int owner = (entry >>> 2) & 3;
+      if (listening && !cellMatches(entry)) {
+        changed[count++] = index;
+      }
+      boardHash ^= cellHash(index / cols, index % cols);
+      ((BoardCell) writableCell(index / cols, index % cols))
+              .reset(owner == 0 ? null : Player.values()[owner - 1], entry & 3);
+      boardHash ^= cellHash(index / cols, index % cols);
+    }
+    currentTurn = mover;
+    lastPassed = (flags & LAST_PASSED) != 0;
+    firstTurnOver = (flags & FIRST_TURN_OVER) != 0;
+    gameOver = (flags & GAME_OVER) != 0;
+    if (listening) {
+      notifyListeners(new PawnsBoardChange(mover, true, cols, placed, handId, placedCard,
+              drawnCard, Arrays.copyOf(changed, count), currentTurn, gameOver));
+    }
+  }
+
+  /**
+   * Adds a listener to be told what each later card placement, skipped turn, and taken back move
+   * changed, in a single change per move.  A listener added more than once is told more than
+   * once.  Forks of this game do not share its listeners.
+   *
+   * @param listener the listener to add
+   * @throws IllegalArgumentException if listener is null
+   */
+  @Override
+  public void addListener(PawnsBoardListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    if (listeners == null) {
+      listeners = new CopyOnWriteArrayList<>();
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener added to this game, if it was added.
+   *
+   * @param listener the listener to remove
+   * @throws IllegalArgumentException if listener is null
+   */
+  @Override
+  public void removeListener(PawnsBoardListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    if (listeners != null) {
+      listeners.remove(listener);
+    }
+  }
+
+  /**
+   * Returns whether there is a move which can be taken back.
+   *
+   * @return if a move can be undone
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public boolean canUndo() {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    return historySize > 0;
+  }
+
+  /**
+   * Returns an independent copy of this game, as it stands, which can be played without
+   * affecting this one.  Cards are shared since they are immutable, and rows of the board are
+   * shared until either game changes them.  The fork starts with no moves to take back, and
+   * draws randomly with a new unseeded random.
+   *
+   * @return the forked game
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public PawnsBoardGame fork() {
+    return fork(new Random());
+  }
+
+  /**
+   * Returns an independent copy of this game, as it stands, which can be played without
+   * affecting this one, and draws randomly with the given random.
+   *
+   * @param rand random used for drawing new cards in the fork
+   * @return the forked game
+   * @throws IllegalStateException if game is not in progress
+   * @throws IllegalArgumentException if the given random is null
+   */
+  @Override
+  public PawnsBoardGame fork(Random rand) {
+    if (!gameStarted) {
+      throw new IllegalStateException("Game not started");
+    }
+    if (rand == null) {
+      throw new IllegalArgumentException("random must not be null");
+    }
+    return new PawnsBoardGame(this, rand);
   }
   //</editor-fold>
 
@@ -487,60 +809,77 @@ public class PawnsBoardGame implements PawnsBoard {
     return rows * cols;
   }
 
-  private void drawCard(Player deck) {
-    if (deck == Player.RED) {
-      if (redDeck.isEmpty()) {
-        return;
-      }
-      if (randomDraw) {
-        redHand.add(redDeck.remove(rand.nextInt(redDeck.size())));
-      } else {
-        redHand.add(redDeck.remove(0));
-      }
-    } else {
-      if (blueDeck.isEmpty()) {
-        return;
-      }
-      if (randomDraw) {
-        blueHand.add(blueDeck.remove(rand.nextInt(blueDeck.size())));
-      } else {
-        blueHand.add(blueDeck.remove(0));
-      }
+  // Returns the index in the deck the card was drawn from, or -1 if the deck was empty
+  private int drawCard(Player deck) {
+    int player = deck.ordinal();
+    int cursor = deckCursors[player];
+    if (cursor == decks[player].length) {
+      return -1;
+    }
+    int index = randomDraw ? cursor + rand.nextInt(decks[player].length - cursor) : cursor;
+    if (index != cursor) {
+      swapDeckCards(player, cursor, index);
     }
+    Card card = decks[player][cursor];
+    deckCursors[player]++;
+    getPlayerHand(deck).add(card);
+    handHash += ZobristKeys.hand(deck, card.getId());
+    return index;
+  }
+
+  // Swaps two cards in a player's deck, first copying the decks if a fork may still share them
+  private void swapDeckCards(int player, int first, int second) {
+    if (decksShared) {
+      decks = new Card[][] {decks[0].clone(), decks[1].clone()};
+      decksShared = false;
+    }
+    Card card = decks[player][first];
+    decks[player][first] = decks[player][second];
+    decks[player][second] = card;
   }
 
   // For getting the proper hand, not a copy unlike the public method
   private List<Card> getCurrentPlayerHand() {
-    if (getCurrentTurn() == Player.RED) {
+    return getPlayerHand(getCurrentTurn());
+  }
+
+  private List<Card> getPlayerHand(Player player) {
+    if (player == Player.RED) {
       return redHand;
     } else {
       return blueHand;
     }
   }
 
-  private void swapTurn() {
+  // Returns the deck index of the card the new current player drew, or -1 if none was drawn
+  private int swapTurn() {
     currentTurn = getOtherPlayer(getCurrentTurn());
+    int drawn = -1;
     if (firstTurnOver) {
-      drawCard(getCurrentTurn());
+      drawn = drawCard(getCurrentTurn());
     }
     firstTurnOver = true;
+    return drawn;
   }
 
   private void influenceBoard(int row, int col, Card card) {
-    boolean[][] influence = card.getInfluence();
+    int influence = card.getInfluenceMask();
     for (int i = -2; i <= 2; i++) {
       for (int j = -2; j <= 2; j++) {
         if (locationValid(row + i, col + j)) {
-          if (influence[i + 2][j + 2]) {
-            influenceCell(board[row + i][col + j], getCurrentTurn());
+          if ((influence & (1 << ((i + 2) * 5 + j + 2))) != 0) {
+            influenceCell(row + i, col + j, getCurrentTurn());
           }
         }
       }
     }
   }
 
-  private void influenceCell(Cell cell, Player player) {
-    if (cell.getCard() == null) {
+  private void influenceCell(int row, int col, Player player) {
+    if (board[row][col].getCard() == null) {
+      recordCell(row, col);
+      boardHash ^= cellHash(row, col);
+      Cell cell = writableCell(row, col);
       if (cell.getOwner() != player) {
         if (cell.getOwner() == null) {
           cell.addPawn(player);
@@ -550,9 +889,86 @@ public class PawnsBoardGame implements PawnsBoard {
       } else {
         cell.addPawn();
       }
+      boardHash ^= cellHash(row, col);
+    }
+  }
+
+  private static final int LAST_PASSED = 1;
+  private static final int FIRST_TURN_OVER = 2;
+  private static final int GAME_OVER = 4;
+  private static final int MOVER_BLUE = 8;
+
+  private int stateFlags() {
+    return (lastPassed ? LAST_PASSED : 0) | (firstTurnOver ? FIRST_TURN_OVER : 0)
+            | (gameOver ? GAME_OVER : 0) | (currentTurn == Player.BLUE ? MOVER_BLUE : 0);
+  }
+
+  // Returns the cell for writing, first copying its row if a fork may still share it
+  private Cell writableCell(int row, int col) {
+    if (sharedRows[row]) {
+      Cell[] copyRow = new BoardCell[cols];
+      for (int j = 0; j < cols; j++) {
+        copyRow[j] = ((BoardCell) board[row][j]).copy();
+      }
+      board[row] = copyRow;
+      sharedRows[row] = false;
+    }
+    return board[row][col];
+  }
+
+  private long cellHash(int row, int col) {
+    Cell cell = board[row][col];
+    if (cell.getCard() != null) {
+      return ZobristKeys.card(row * cols + col, cell.getOwner(), cell.getCard().getId());
+    }
+    return ZobristKeys.pawns(row * cols + col, cell.getOwner(), cell.getPawns());
+  }
+
+  private void recordCell(int row, int col) {
+    Cell cell = board[row][col];
+    int owner = cell.getOwner() == null ? 0 : cell.getOwner().ordinal() + 1;
+    pushHistory(((row * cols + col) << 4) | (owner << 2) | cell.getPawns());
+  }
+
+  // Returns whether the cell in a history entry has the owner and pawns recorded in the entry
+  private boolean cellMatches(int entry) {
+    int index = entry >>> 4;
+    Cell cell = board[index / cols][index % cols];
+    int owner = cell.getOwner() == null ? 0 : cell.getOwner().ordinal() + 1;
+    return cell.getCard() == null && ((entry >>> 2) & 3) == owner && (entry & 3) == cell.getPawns();
+  }
+
+  private boolean hasListeners() {
+    return listeners != null && !listeners.isEmpty();
+  }
+
+  private void notifyListeners(PawnsBoardChange change) {
+    for (PawnsBoardListener listener : listeners) {
+      listener.boardChanged(change);
     }
   }
 
+  private Card lastCard(Player player) {
+    List<Card> hand = getPlayerHand(player);
+    return hand.get(hand.size() - 1);
+  }
+
+  private void recordMove(int placed, int handId, int drawn, int flags, int changedCells) {
+    version++;
+    pushHistory(placed);
+    pushHistory(handId);
+    pushHistory(drawn);
+    pushHistory(flags);
+    pushHistory(changedCells);
+  }
+
+  private void pushHistory(int value) {
+    if (historySize == history.length) {
+      history = Arrays.copyOf(history, history.length * 2);
+    }
+    history[historySize++] = value;
+  }
+
   private Player getOtherPlayer(Player player) {
     if (player == Player.RED) {
       return Player.BLUE;
@@ -561,4 +977,53 @@ public class PawnsBoardGame implements PawnsBoard {
     }
   }
   //</editor-fold>
+
+  // Reads this game's cells in place, for as long as the game is unchanged
+  private final class Snapshot implements BoardSnapshot {
+    private final int version;
+
+    private Snapshot(int version) {
+      this.version = version;
+    }
+
+    @Override
+    public int getRows() {
+      return rows;
+    }
+
+    @Override
+    public int getCols() {
+      return cols;
+    }
+
+    @Override
+    public Player getOwner(int row, int col) {
+      return cellAt(row, col).getOwner();
+    }
+
+    @Override
+    public int getPawns(int row, int col) {
+      return cellAt(row, col).getPawns();
+    }
+
+    @Override
+    public Card getCard(int row, int col) {
+      return cellAt(row, col).getCard();
+    }
+
+    @Override
+    public boolean isCurrent() {
+      return version == PawnsBoardGame.this.version;
+    }
+
+    private Cell cellAt(int row, int col) {
+      if (!isCurrent()) {
+        throw new IllegalStateException("Game changed since snapshot was taken");
+      }
+      if (!locationValid(row, col)) {
+        throw new IllegalArgumentException("Invalid location");
+      }
+      return board[row][col];
+    }
+  }
 }
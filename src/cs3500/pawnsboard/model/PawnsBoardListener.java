@@ -0,0 +1,15 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Listens to a game of pawns board, being told what each move changed as it is made.
+ */
+public interface PawnsBoardListener {
+
+  /**
+   * Called once after each card placement, skipped turn, or taken back move, with everything the
+   * move changed.  Called on the thread that made the move.
+   *
+   * @param change what the move changed
+   */
+  void boardChanged(PawnsBoardChange change);
+}
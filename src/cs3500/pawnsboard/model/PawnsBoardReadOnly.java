@@ -54,6 +54,38 @@ public interface PawnsBoardReadOnly {
    */
   List<Card> getHand(Player player);
 
+  /**
+   * Returns the number of cards in the hand of the specified player.  Implementations are
+   * expected to override this without copying the hand, the default counts a copy from getHand.
+   *
+   * @param player the player whose hand is counted
+   * @return the hand size
+   * @throws IllegalStateException if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   */
+  default int getHandSize(Player player) {
+    return getHand(player).size();
+  }
+
+  /**
+   * Returns the card at the given index in the hand of the specified player.  Implementations are
+   * expected to override this without copying the hand, the default reads a copy from getHand.
+   *
+   * @param player the player whose card is returned
+   * @param handId the index of the card in the player's hand
+   * @return the card
+   * @throws IllegalStateException if game is not in progress
+   * @throws IllegalArgumentException if player is null
+   *                                  if hand ID is invalid
+   */
+  default Card getHandCard(Player player, int handId) {
+    List<Card> hand = getHand(player);
+    if (handId < 0 || handId >= hand.size()) {
+      throw new IllegalArgumentException("Invalid hand id");
+    }
+    return hand.get(handId);
+  }
+
   /**
    * Returns whether a move for the current player is valid, a move being the placement of
    * a card onto a location on the board.  A move is valid if the card exists, the location is on
@@ -71,6 +103,45 @@ public interface PawnsBoardReadOnly {
    */
   boolean isMoveValid(int row, int col, int handId, Player player);
 
+  /**
+   * Writes every valid move for the specified player into the given buffer, and returns how many
+   * moves were written.  Each move takes three consecutive entries, being its row, column, and
+   * hand index, so move k is stored at buffer[3 * k] through buffer[3 * k + 2].  Moves are ordered
+   * by row, then column, then hand index, the same order a full scan with isMoveValid visits them.
+   * Implementations are expected to override this with a single pass over their own state, the
+   * default simply probes every combination.
+   *
+   * @param player the player to find moves for
+   * @param buffer the buffer to write moves into
+   * @return the number of moves written
+   * @throws IllegalArgumentException if player or buffer is null
+   *                                  if the buffer cannot hold every valid move
+   * @throws IllegalStateException if game is not in progress
+   */
+  default int getValidMoves(Player player, int[] buffer) {
+    if (player == null || buffer == null) {
+      throw new IllegalArgumentException("Player and buffer cannot be null");
+    }
+    int handSize = getHandSize(player);
+    int count = 0;
+    for (int row = 0; row < getRows(); row++) {
+      for (int col = 0; col < getCols(); col++) {
+        for (int handId = 0; handId < handSize; handId++) {
+          if (isMoveValid(row, col, handId, player)) {
+            if (buffer.length < 3 * (count + 1)) {
+              throw new IllegalArgumentException("Buffer too small for all valid moves");
+            }
+            buffer[3 * count] = row;
+            buffer[3 * count + 1] = col;
+            buffer[3 * count + 2] = handId;
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
   /**
    * Returns the player whose turn it is.
    *
@@ -115,4 +186,29 @@ public interface PawnsBoardReadOnly {
    * @throws IllegalStateException if game is not in progress
    */
   Cell getCellAt(int row, int col);
+
+  /**
+   * Returns a 64 bit hash of the current position, covering every cell's owner, pawns, and card,
+   * both players' hands, the player to move, whether the last move was a pass, and whether the
+   * game is over.  Equal positions hash equally across implementations, regardless of the order of
+   * cards within a hand, so the hash can key caches and transposition tables.
+   *
+   * @return the position hash
+   * @throws IllegalStateException if game is not in progress
+   */
+  long getPositionHash();
+
+  /**
+   * Returns a read-only snapshot of every cell on the board, valid until the game next changes.
+   * Implementations are expected to override this with a snapshot that reads their own state in
+   * place, the default copies the whole board, and tells the game has changed by its position
+   * hash.
+   *
+   * @return the board snapshot
+   * @throws IllegalStateException if game is not in progress
+   *                               if getBoard gives no board to copy
+   */
+  default BoardSnapshot getBoardSnapshot() {
+    return new CopiedBoardSnapshot(this);
+  }
 }
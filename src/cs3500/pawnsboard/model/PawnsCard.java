@@ -1,18 +1,42 @@
 package cs3500.pawnsboard.model;
 
-import java.util.Arrays;
+import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implementation of a card for a game of pawns board.  Has a unique name, cost, point
  * value, and influence pattern.  Used to make moves during a game.
+ * Cards are immutable.  The influence pattern is kept as a 25 bit mask along with its horizontal
+ * mirror for the blue player, and every distinct card is given a stable id.  One canonical
+ * instance of each distinct card is interned, which the model and reader share rather than copy.
+ * The intern table only holds canonical cards weakly, so a card nothing else refers to is dropped
+ * from it, and is given a new id if it is ever asked for again.  Cards made with the constructor
+ * are not interned; they equal the canonical card with the same attributes, and share its id.
  */
 public class PawnsCard implements Card {
 
+  private static final int FULL_MASK = (1 << 25) - 1;
+  // Keys are only reachable through their canonical card, so unused entries are cleared
+  private static final Map<CardKey, WeakReference<PawnsCard>> INTERNED = new WeakHashMap<>();
+  private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
   private final String name;
   private final int cost;
   private final int value;
-  private final boolean[][] influence;
+  private final int influenceMask;
+  private final int mirroredMask;
+  private final int id;
+  private final int hash;
+  private final boolean canonical;
+  // Holds this card's entry in the intern table, or null if this card is not canonical
+  private final CardKey key;
+  // The canonical card equal to this one, found on first use; racing threads find the same one
+  private PawnsCard interned;
+  // The canonical mirrored card, found on first use; racing threads find the same instance
+  private PawnsCard mirror;
 
   /**
    * Creates a new game card.
@@ -42,12 +66,99 @@ public class PawnsCard implements Card {
     this.name = name;
     this.cost = cost;
     this.value = value;
-    this.influence = new boolean[5][5];
-    for (int i = 0; i < 5; i++) {
-      System.arraycopy(influence[i], 0, this.influence[i], 0, 5);
+    this.influenceMask = toMask(influence);
+    this.mirroredMask = mirror(influenceMask);
+    this.id = -1;
+    this.hash = Objects.hash(name, cost, value, influenceMask);
+    this.canonical = false;
+    this.key = null;
+  }
+
+  private PawnsCard(CardKey key, int id) {
+    this.name = key.name;
+    this.cost = key.cost;
+    this.value = key.value;
+    this.influenceMask = key.influenceMask;
+    this.mirroredMask = mirror(influenceMask);
+    this.id = id;
+    this.hash = key.hashCode();
+    this.canonical = true;
+    this.key = key;
+    this.interned = this;
+  }
+
+  /**
+   * Returns the canonical instance of the card with the given attributes, creating it if no
+   * instance is in use.
+   *
+   * @param name the name of the card
+   * @param cost the cost of the card, being 1-3 pawns
+   * @param value the positive value of the card
+   * @param influenceMask the influence pattern, with grid cell (i, j) at bit (i * 5 + j)
+   * @return the interned card
+   * @throws IllegalArgumentException if name is null
+   *                                  if pawn cost is not between 1 and 3
+   *                                  if value is not positive
+   *                                  if the mask has bits set beyond the 5x5 grid
+   */
+  public static PawnsCard of(String name, int cost, int value, int influenceMask) {
+    if (name == null) {
+      throw new IllegalArgumentException("Name, color, and influence must be defined");
+    }
+    if (cost < 1 || cost > 3) {
+      throw new IllegalArgumentException("Cost must be between 1 and 3");
+    }
+    if (value < 1) {
+      throw new IllegalArgumentException("Value must be positive");
+    }
+    if ((influenceMask & ~FULL_MASK) != 0) {
+      throw new IllegalArgumentException("Influence must be a 5x5 grid");
+    }
+    CardKey key = new CardKey(name, cost, value, influenceMask);
+    synchronized (INTERNED) {
+      WeakReference<PawnsCard> ref = INTERNED.get(key);
+      PawnsCard found = ref == null ? null : ref.get();
+      if (found == null) {
+        found = new PawnsCard(key, NEXT_ID.getAndIncrement());
+        INTERNED.put(key, new WeakReference<>(found));
+      }
+      return found;
     }
   }
 
+  /**
+   * Returns the canonical instance of a card equal to the given one.  Canonical cards are
+   * returned as is.
+   *
+   * @param card the card to intern
+   * @return the interned card
+   * @throws IllegalArgumentException if card is null
+   */
+  public static PawnsCard intern(Card card) {
+    if (card == null) {
+      throw new IllegalArgumentException("Cannot intern null card");
+    }
+    if (card instanceof PawnsCard) {
+      return ((PawnsCard) card).canonicalCard();
+    }
+    return of(card.getName(), card.getCost(), card.getValue(), card.getInfluenceMask());
+  }
+
+  /**
+   * Returns the canonical card which is this card mirrored horizontally, as it is played by the
+   * blue player.
+   *
+   * @return the mirrored card
+   */
+  public PawnsCard mirrored() {
+    PawnsCard found = mirror;
+    if (found == null) {
+      found = of(name, cost, value, mirroredMask);
+      mirror = found;
+    }
+    return found;
+  }
+
   /**
    * Returns the unique name of the card.
    *
@@ -85,23 +196,126 @@ public class PawnsCard implements Card {
   public boolean[][] getInfluence() {
     boolean[][] copy = new boolean[5][5];
     for (int i = 0; i < 5; i++) {
-      System.arraycopy(influence[i], 0, copy[i], 0, 5);
+      for (int j = 0; j < 5; j++) {
+        copy[i][j] = (influenceMask & (1 << (i * 5 + j))) != 0;
+      }
     }
     return copy;
   }
 
+  /**
+   * Returns the influence grid for this card packed into 25 bits, with grid cell (i, j) at bit
+   * (i * 5 + j).
+   *
+   * @return the influence mask
+   */
+  @Override
+  public int getInfluenceMask() {
+    return influenceMask;
+  }
+
+  /**
+   * Returns the influence mask of this card mirrored horizontally.
+   *
+   * @return the mirrored influence mask
+   */
+  @Override
+  public int getMirroredInfluenceMask() {
+    return mirroredMask;
+  }
+
+  /**
+   * Returns the id of this card, shared by all cards equal to it.
+   *
+   * @return the id
+   */
+  @Override
+  public int getId() {
+    return canonical ? id : canonicalCard().id;
+  }
+
   @Override
   public boolean equals(Object o) {
-    if (o instanceof PawnsCard) {
-      PawnsCard other = (PawnsCard) o;
-      return (this.cost == other.cost && this.value == other.value && this.name.equals(other.name)
-              && Arrays.deepEquals(this.influence, other.influence));
+    if (!(o instanceof PawnsCard)) {
+      return false;
     }
-    return false;
+    PawnsCard other = (PawnsCard) o;
+    if (canonical && other.canonical) {
+      return this.id == other.id;
+    }
+    return hash == other.hash && cost == other.cost && value == other.value
+            && influenceMask == other.influenceMask && name.equals(other.name);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, cost, value, Arrays.deepHashCode(influence));
+    return hash;
+  }
+
+  // The canonical card equal to this one, kept once found so that its id stays the same
+  private PawnsCard canonicalCard() {
+    PawnsCard found = interned;
+    if (found == null) {
+      found = of(name, cost, value, influenceMask);
+      interned = found;
+    }
+    return found;
+  }
+
+  private static int toMask(boolean[][] influence) {
+    int mask = 0;
+    for (int i = 0; i < 5; i++) {
+      if (influence[i].length != 5) {
+        throw new IllegalArgumentException("Influence must be a 5x5 grid");
+      }
+      for (int j = 0; j < 5; j++) {
+        if (influence[i][j]) {
+          mask |= 1 << (i * 5 + j);
+        }
+      }
+    }
+    return mask;
+  }
+
+  private static int mirror(int mask) {
+    int mirrored = 0;
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        if ((mask & (1 << (i * 5 + j))) != 0) {
+          mirrored |= 1 << (i * 5 + 4 - j);
+        }
+      }
+    }
+    return mirrored;
+  }
+
+  // Identity of a distinct card within the intern table
+  private static final class CardKey {
+    private final String name;
+    private final int cost;
+    private final int value;
+    private final int influenceMask;
+
+    private CardKey(String name, int cost, int value, int influenceMask) {
+      this.name = name;
+      this.cost = cost;
+      this.value = value;
+      this.influenceMask = influenceMask;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o instanceof CardKey) {
+        CardKey other = (CardKey) o;
+        return cost == other.cost && value == other.value && influenceMask == other.influenceMask
+                && name.equals(other.name);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, cost, value, influenceMask);
+    }
   }
 }
@@ -0,0 +1,52 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Random;
+
+/**
+ * A game of pawns board which also supports the operations needed to search ahead through the
+ * game, such as taking back moves, so that strategies can explore positions without rebuilding
+ * a game for each one.
+ */
+public interface SearchablePawnsBoard extends PawnsBoard {
+
+  /**
+   * Takes back the most recent card placement or skipped turn, restoring the board, both hands,
+   * both decks, the turn, and whether the game is over to how they were before it.  Cards drawn
+   * at the end of the move are returned to the position in the deck they were drawn from, however
+   * a random used for drawing is not rewound.
+   *
+   * @throws IllegalStateException if game is not in progress
+   *                               if there are no moves to take back
+   */
+  void undoMove();
+
+  /**
+   * Returns whether there is a move which can be taken back.
+   *
+   * @return if a move can be undone
+   * @throws IllegalStateException if game is not in progress
+   */
+  boolean canUndo();
+
+  /**
+   * Returns an independent copy of this game, as it stands, which can be played without
+   * affecting this one.  The fork starts with no moves to take back, and draws randomly with a
+   * new unseeded random.
+   *
+   * @return the forked game
+   * @throws IllegalStateException if game is not in progress
+   */
+  SearchablePawnsBoard fork();
+
+  /**
+   * Returns an independent copy of this game, as it stands, which can be played without
+   * affecting this one, and draws randomly with the given random.  The fork starts with no moves
+   * to take back.
+   *
+   * @param rand random used for drawing new cards in the fork
+   * @return the forked game
+   * @throws IllegalStateException if game is not in progress
+   * @throws IllegalArgumentException if the given random is null
+   */
+  SearchablePawnsBoard fork(Random rand);
+}
@@ -0,0 +1,80 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * The random keys used to hash a position in a game of pawns board.  Every implementation shares
+ * these keys, so the same position hashes the same no matter which model it is in.
+ * Boards have no fixed size, so rather than storing tables of random numbers each key is made by
+ * scrambling its cell and state through the SplitMix64 finalizer, which gives the same effect.
+ * An empty cell has a key of zero, so only occupied cells contribute to a board's hash.
+ */
+final class ZobristKeys {
+
+  static final long BLUE_TO_MOVE = mix(0x6A09E667F3BCC909L);
+  static final long LAST_PASSED = mix(0xBB67AE8584CAA73BL);
+  static final long GAME_OVER = mix(0x3C6EF372FE94F82BL);
+
+  private static final long PAWNS_SEED = 0x510E527FADE682D1L;
+  private static final long CARD_SEED = 0x9B05688C2B3E6C1FL;
+  private static final long HAND_SEED = 0x1F83D9ABFB41BD6BL;
+
+  private ZobristKeys() {
+  }
+
+  /**
+   * Returns the key for a cell holding pawns, or zero for an empty cell.
+   *
+   * @param index the cell's row-major index
+   * @param owner the owner of the pawns, or null if empty
+   * @param pawns the number of pawns
+   * @return the key
+   */
+  static long pawns(int index, Player owner, int pawns) {
+    if (owner == null) {
+      return 0;
+    }
+    return mix(PAWNS_SEED + ((long) index << 3 | (long) owner.ordinal() << 2 | pawns));
+  }
+
+  /**
+   * Returns the key for a cell holding a played card.
+   *
+   * @param index the cell's row-major index
+   * @param owner the owner of the card
+   * @param cardId the id of the card
+   * @return the key
+   */
+  static long card(int index, Player owner, int cardId) {
+    return mix(CARD_SEED + ((long) index << 32 | (long) cardId << 1 | owner.ordinal()));
+  }
+
+  /**
+   * Returns the key for one copy of a card in a player's hand.  Hand keys are summed rather than
+   * xored, so that holding two copies of a card does not cancel out.
+   *
+   * @param owner the player holding the card
+   * @param cardId the id of the card
+   * @return the key
+   */
+  static long hand(Player owner, int cardId) {
+    return mix(HAND_SEED + ((long) cardId << 1 | owner.ordinal()));
+  }
+
+  /**
+   * Returns the key for the parts of a position that are not on the board or in hand.
+   *
+   * @param turn the player to move
+   * @param lastPassed whether the last move was a pass
+   * @param gameOver whether the game is over
+   * @return the key
+   */
+  static long state(Player turn, boolean lastPassed, boolean gameOver) {
+    return (turn == Player.BLUE ? BLUE_TO_MOVE : 0) ^ (lastPassed ? LAST_PASSED : 0)
+            ^ (gameOver ? GAME_OVER : 0);
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,297 @@
+package cs3500.pawnsboard.model.strategies;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.PawnsBoardReadOnly;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.SearchablePawnsBoard;
+
+/**
+ * Strategy for a game of pawns board which searches ahead with alpha-beta minimax.  The search
+ * deepens one ply at a time until its time budget runs out, and plays the best move found by the
+ * deepest search that finished.  Moves are tried best first, starting with the move remembered as
+ * best for the position from earlier searches, then by card value.
+ * Positions are scored by the difference in total score between the two players, with finished
+ * games scored beyond any unfinished one.  Passing is only considered when no card can be placed.
+ * The board must be a SearchablePawnsBoard, which is forked once per decision and then searched by
+ * making and taking back moves.  With random draws the fork draws from a random seeded by the
+ * position hash, so a search of the same position to the same depth always chooses the same
+ * move; how deep the budget allows is still up to the clock.  An instance is not safe to share
+ * between threads.
+ */
+public class StrategyAlphaBeta implements PawnsBoardStrategy {
+
+  private static final int WIN = 1_000_000;
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int TABLE_SIZE = 1 << 16;
+
+  // Thrown to unwind the search once out of time, shared since it carries no stack trace
+  private static final RuntimeException OUT_OF_TIME = new RuntimeException("Out of time", null,
+          false, false) {
+  };
+
+  private final long budgetNanos;
+  private final int maxDepth;
+
+  // Best move remembered for each position, keyed by position hash
+  private final long[] tableKeys = new long[TABLE_SIZE];
+  private final int[] tableMoves = new int[TABLE_SIZE];
+
+  private SearchablePawnsBoard game;
+  private int[][] moveBuffers;
+  private int[][] orderKeys;
+  private long deadline;
+  private long nodes;
+  private boolean depthLimited;
+
+  private long lastNodes;
+  private int lastDepth;
+  private long lastNanos;
+
+  /**
+   * Creates a new alpha-beta strategy with the given time budget per decision, searching as deep
+   * as the budget allows.
+   *
+   * @param budgetMillis the wall-clock time allowed per call to choosePlay
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  public StrategyAlphaBeta(long budgetMillis) {
+    this(budgetMillis, 64);
+  }
+
+  /**
+   * Creates a new alpha-beta strategy with the given time budget per decision and a limit on how
+   * many plies ahead to search.
+   *
+   * @param budgetMillis the wall-clock time allowed per call to choosePlay
+   * @param maxDepth the deepest search to attempt
+   * @throws IllegalArgumentException if the budget or depth is not positive
+   */
+  public StrategyAlphaBeta(long budgetMillis, int maxDepth) {
+    if (budgetMillis < 1 || maxDepth < 1) {
+      throw new IllegalArgumentException("Budget and depth must be positive");
+    }
+    this.budgetNanos = budgetMillis * 1_000_000;
+    this.maxDepth = maxDepth;
+    this.moveBuffers = new int[maxDepth + 1][];
+    this.orderKeys = new int[maxDepth + 1][];
+  }
+
+  /**
+   * Returns a move to be made given this class' strategy.  A move contains the row, col, and hand
+   * id of the card to be played for the given player.
+   *
+   * @param board  the board to base the move off of
+   * @param player the player to make the move for
+   * @return the move to be made
+   * @throws IllegalStateException if there are no moves available
+   * @throws IllegalArgumentException if the board cannot be searched
+   *                                  if it is not the given player's turn
+   */
+  @Override
+  public Move choosePlay(PawnsBoardReadOnly board, Player player) throws IllegalStateException {
+    if (!(board instanceof SearchablePawnsBoard)) {
+      throw new IllegalArgumentException("Board must be searchable");
+    }
+    if (board.getCurrentTurn() != player) {
+      throw new IllegalArgumentException("Can only choose a move for the player to move");
+    }
+    long start = System.nanoTime();
+    deadline = start + budgetNanos;
+    nodes = 0;
+    lastDepth = 0;
+    game = ((SearchablePawnsBoard) board).fork(new Random(board.getPositionHash()));
+    int count = game.getValidMoves(player, buffer(0));
+    if (count == 0) {
+      throw new IllegalStateException("No available moves found");
+    }
+    int best = decode(moveBuffers[0], 0);
+    try {
+      for (int depth = 1; depth <= maxDepth; depth++) {
+        depthLimited = false;
+        best = searchRoot(depth, count, best);
+        lastDepth = depth;
+        if (!depthLimited) {
+          break;
+        }
+      }
+    } catch (RuntimeException e) {
+      if (e != OUT_OF_TIME) {
+        throw e;
+      }
+    }
+    game = null;
+    lastNodes = nodes;
+    lastNanos = System.nanoTime() - start;
+    return new Move(best >>> 20, (best >>> 10) & 0x3FF, best & 0x3FF);
+  }
+
+  /**
+   * Returns the number of positions visited while choosing the last move.
+   *
+   * @return the node count
+   */
+  public long getLastNodes() {
+    return lastNodes;
+  }
+
+  /**
+   * Returns the depth of the deepest search that finished while choosing the last move, or 0 if
+   * not even a single ply finished in time.
+   *
+   * @return the depth
+   */
+  public int getLastDepth() {
+    return lastDepth;
+  }
+
+  /**
+   * Returns the rate the last search visited positions at, in nodes per second.
+   *
+   * @return the nodes per second
+   */
+  public double getLastNodesPerSecond() {
+    return lastNanos == 0 ? 0 : lastNodes * 1e9 / lastNanos;
+  }
+
+  private int searchRoot(int depth, int count, int previousBest) {
+    int[] moves = moveBuffers[0];
+    orderMoves(0, count, previousBest);
+    int alpha = -INFINITY;
+    int best = previousBest;
+    for (int i = 0; i < count; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      int score = -search(depth - 1, -INFINITY, -alpha, 1);
+      game.undoMove();
+      if (score > alpha) {
+        alpha = score;
+        best = decode(moves, i);
+      }
+    }
+    remember(game.getPositionHash(), best);
+    return best;
+  }
+
+  private int search(int depth, int alpha, int beta, int ply) {
+    nodes++;
+    if ((nodes & 1023) == 0 && System.nanoTime() > deadline) {
+      throw OUT_OF_TIME;
+    }
+    if (game.isGameOver()) {
+      return finalScore();
+    }
+    if (depth == 0) {
+      depthLimited = true;
+      return evaluate();
+    }
+    Player turn = game.getCurrentTurn();
+    int count = game.getValidMoves(turn, buffer(ply));
+    if (count == 0) {
+      game.skipTurn();
+      int score = -search(depth - 1, -beta, -alpha, ply + 1);
+      game.undoMove();
+      return score;
+    }
+    long hash = game.getPositionHash();
+    int[] moves = moveBuffers[ply];
+    orderMoves(ply, count, recalled(hash));
+    int best = -INFINITY;
+    int bestMove = -1;
+    for (int i = 0; i < count; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      int score = -search(depth - 1, -beta, -alpha, ply + 1);
+      game.undoMove();
+      if (score > best) {
+        best = score;
+        bestMove = decode(moves, i);
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    remember(hash, bestMove);
+    return best;
+  }
+
+  // Score difference from the view of the player to move
+  private int evaluate() {
+    Player turn = game.getCurrentTurn();
+    Player other = turn == Player.RED ? Player.BLUE : Player.RED;
+    return game.getTotalScore(turn) - game.getTotalScore(other);
+  }
+
+  private int finalScore() {
+    int difference = evaluate();
+    if (difference > 0) {
+      return WIN + difference;
+    } else if (difference < 0) {
+      return -WIN + difference;
+    }
+    return 0;
+  }
+
+  // Sorts the moves at the given ply best first, the remembered move then by card value
+  private void orderMoves(int ply, int count, int remembered) {
+    int[] moves = moveBuffers[ply];
+    if (orderKeys[ply] == null || orderKeys[ply].length < count) {
+      orderKeys[ply] = new int[Math.max(count, 16)];
+    }
+    int[] keys = orderKeys[ply];
+    Player turn = game.getCurrentTurn();
+    for (int i = 0; i < count; i++) {
+      keys[i] = decode(moves, i) == remembered
+              ? INFINITY : game.getHandCard(turn, moves[3 * i + 2]).getValue();
+    }
+    for (int i = 1; i < count; i++) {
+      int key = keys[i];
+      int row = moves[3 * i];
+      int col = moves[3 * i + 1];
+      int handId = moves[3 * i + 2];
+      int j = i - 1;
+      while (j >= 0 && keys[j] < key) {
+        keys[j + 1] = keys[j];
+        moves[3 * j + 3] = moves[3 * j];
+        moves[3 * j + 4] = moves[3 * j + 1];
+        moves[3 * j + 5] = moves[3 * j + 2];
+        j--;
+      }
+      keys[j + 1] = key;
+      moves[3 * j + 3] = row;
+      moves[3 * j + 4] = col;
+      moves[3 * j + 5] = handId;
+    }
+  }
+
+  // Returns a buffer for the given ply large enough for every move of the player to move
+  private int[] buffer(int ply) {
+    int needed = 3 * game.getRows() * game.getCols()
+            * Math.max(1, game.getHandSize(game.getCurrentTurn()));
+    if (ply >= moveBuffers.length) {
+      moveBuffers = Arrays.copyOf(moveBuffers, ply + 1);
+      orderKeys = Arrays.copyOf(orderKeys, ply + 1);
+    }
+    if (moveBuffers[ply] == null || moveBuffers[ply].length < needed) {
+      moveBuffers[ply] = new int[needed];
+    }
+    return moveBuffers[ply];
+  }
+
+  private static int decode(int[] moves, int index) {
+    return moves[3 * index] << 20 | moves[3 * index + 1] << 10 | moves[3 * index + 2];
+  }
+
+  private void remember(long hash, int move) {
+    int slot = (int) (hash ^ (hash >>> 32)) & (TABLE_SIZE - 1);
+    tableKeys[slot] = hash;
+    tableMoves[slot] = move;
+  }
+
+  private int recalled(long hash) {
+    int slot = (int) (hash ^ (hash >>> 32)) & (TABLE_SIZE - 1);
+    return tableKeys[slot] == hash ? tableMoves[slot] : -1;
+  }
+}
@@ -0,0 +1,274 @@
+package cs3500.pawnsboard.model.strategies;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.PawnsBoardReadOnly;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.SearchablePawnsBoard;
+
+/**
+ * Strategy for a game of pawns board which finishes a game by solving it exactly.  Until the
+ * player to move has no more than a threshold of valid moves, every move is left to another
+ * strategy.  From then on the game is searched all the way to its end, and the move with the best
+ * final score difference for the player, assuming the best replies, is played.
+ * Passing is searched alongside every placement, since passing right after the other player did
+ * ends the game at the current score.  When passing is strictly the best move, choosePlay throws
+ * an IllegalStateException, the way strategies ask their player to pass.
+ * The search is alpha-beta minimax, remembering the value of each position it finishes by its
+ * position hash, so positions reached by more than one order of moves are solved once.  The hash
+ * does not cover the decks, so values are forgotten at the start of every decision rather than
+ * carried into another game.  The table is only made on the first decision which is solved, and
+ * is no larger than the node limit needs.
+ * The solve is exact when cards are drawn from the front of the deck, as then every draw follows
+ * from the position.  With random draws the search sees the draws of its own fork of the game,
+ * drawn from a random seeded by the position hash.
+ * A search which visits more than its node limit is abandoned, and the move is left to the other
+ * strategy, as is every move on a board which is not a SearchablePawnsBoard.  An instance is not
+ * safe to share between threads.
+ */
+public class StrategyEndgame implements PawnsBoardStrategy {
+
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int PASS = -1;
+  private static final int TABLE_SIZE = 1 << 18;
+  private static final byte EXACT = 1;
+  private static final byte LOWER = 2;
+  private static final byte UPPER = 3;
+
+  // Thrown to unwind the search once over its node limit, shared since it carries no stack trace
+  private static final RuntimeException OUT_OF_NODES = new RuntimeException("Out of nodes", null,
+          false, false) {
+  };
+
+  private final PawnsBoardStrategy opening;
+  private final int threshold;
+  private final long maxNodes;
+  private final int tableSize;
+
+  // Value found for each position in the current decision, keyed by position hash, and whether
+  // it is exact or a bound, made on the first solved decision
+  private long[] tableKeys;
+  private int[] tableValues;
+  private byte[] tableBounds;
+
+  private SearchablePawnsBoard game;
+  private int[][] moveBuffers = new int[0][];
+  private long nodes;
+
+  private long lastNodes;
+  private boolean lastSolved;
+  private int lastScore;
+
+  /**
+   * Creates a new endgame strategy which leaves moves to the given strategy until the player to
+   * move has no more than the given number of valid moves, searching at most ten million
+   * positions per decision.
+   *
+   * @param opening the strategy to make moves before the endgame
+   * @param threshold the most valid moves a position can have to be solved
+   * @throws IllegalArgumentException if the opening strategy is null
+   *                                  if the threshold is not positive
+   */
+  public StrategyEndgame(PawnsBoardStrategy opening, int threshold) {
+    this(opening, threshold, 10_000_000);
+  }
+
+  /**
+   * Creates a new endgame strategy which leaves moves to the given strategy until the player to
+   * move has no more than the given number of valid moves, searching at most the given number of
+   * positions per decision.
+   *
+   * @param opening the strategy to make moves before the endgame, or when a search is abandoned
+   * @param threshold the most valid moves a position can have to be solved
+   * @param maxNodes the most positions a search may visit before it is abandoned
+   * @throws IllegalArgumentException if the opening strategy is null
+   *                                  if the threshold or node limit is not positive
+   */
+  public StrategyEndgame(PawnsBoardStrategy opening, int threshold, long maxNodes) {
+    if (opening == null) {
+      throw new IllegalArgumentException("Opening strategy must not be null");
+    }
+    if (threshold < 1 || maxNodes < 1) {
+      throw new IllegalArgumentException("Threshold and node limit must be positive");
+    }
+    this.opening = opening;
+    this.threshold = threshold;
+    this.maxNodes = maxNodes;
+    // Each visited position fills at most one slot, so a larger table than the limit is unused
+    this.tableSize = (int) Math.min(TABLE_SIZE,
+            Long.highestOneBit(Math.min(maxNodes, TABLE_SIZE)) << 1);
+  }
+
+  /**
+   * Returns a move to be made given this class' strategy.  A move contains the row, col, and hand
+   * id of the card to be played for the given player.
+   *
+   * @param board  the board to base the move off of
+   * @param player the player to make the move for
+   * @return the move to be made
+   * @throws IllegalStateException if there are no moves available
+   *                               if passing is strictly better than every move
+   */
+  @Override
+  public Move choosePlay(PawnsBoardReadOnly board, Player player) throws IllegalStateException {
+    lastSolved = false;
+    lastNodes = 0;
+    if (!(board instanceof SearchablePawnsBoard) || board.getCurrentTurn() != player) {
+      return opening.choosePlay(board, player);
+    }
+    SearchablePawnsBoard searchable = (SearchablePawnsBoard) board;
+    int count = searchable.getValidMoves(player, new int[3 * board.getRows() * board.getCols()
+            * Math.max(1, board.getHandSize(player))]);
+    if (count == 0) {
+      throw new IllegalStateException("No available moves found");
+    }
+    if (count > threshold) {
+      return opening.choosePlay(board, player);
+    }
+    nodes = 0;
+    if (tableBounds == null) {
+      tableKeys = new long[tableSize];
+      tableValues = new int[tableSize];
+      tableBounds = new byte[tableSize];
+    } else {
+      Arrays.fill(tableBounds, (byte) 0);
+    }
+    game = searchable.fork(new Random(board.getPositionHash()));
+    int best;
+    try {
+      best = solveRoot();
+    } catch (RuntimeException e) {
+      if (e != OUT_OF_NODES) {
+        throw e;
+      }
+      return opening.choosePlay(board, player);
+    } finally {
+      game = null;
+      lastNodes = nodes;
+    }
+    lastSolved = true;
+    if (best == PASS) {
+      throw new IllegalStateException("Passing is the best move");
+    }
+    return new Move(best >>> 20, (best >>> 10) & 0x3FF, best & 0x3FF);
+  }
+
+  /**
+   * Returns whether the last move was chosen by solving the game, rather than by the other
+   * strategy, including when the move chosen was to pass.
+   *
+   * @return if the last move was solved
+   */
+  public boolean isLastSolved() {
+    return lastSolved;
+  }
+
+  /**
+   * Returns the final score difference, from the view of the player who moved, which the last
+   * solved move, or pass, is proven to reach against the best replies.  Only meaningful if the
+   * last move was solved.
+   *
+   * @return the proven score difference
+   */
+  public int getLastScore() {
+    return lastScore;
+  }
+
+  /**
+   * Returns the number of positions visited while choosing the last move, or 0 if no search was
+   * made.
+   *
+   * @return the node count
+   */
+  public long getLastNodes() {
+    return lastNodes;
+  }
+
+  // Returns the best move, or PASS if passing is strictly better than every placement
+  private int solveRoot() {
+    int count = game.getValidMoves(game.getCurrentTurn(), buffer(0));
+    int[] moves = moveBuffers[0];
+    int alpha = -INFINITY;
+    int best = decode(moves, 0);
+    for (int i = 0; i < count; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      int score = -search(-INFINITY, -alpha, 1);
+      game.undoMove();
+      if (score > alpha) {
+        alpha = score;
+        best = decode(moves, i);
+      }
+    }
+    game.skipTurn();
+    int score = -search(-INFINITY, -alpha, 1);
+    game.undoMove();
+    if (score > alpha) {
+      alpha = score;
+      best = PASS;
+    }
+    lastScore = alpha;
+    return best;
+  }
+
+  private int search(int alpha, int beta, int ply) {
+    if (++nodes > maxNodes) {
+      throw OUT_OF_NODES;
+    }
+    if (game.isGameOver()) {
+      return difference();
+    }
+    long hash = game.getPositionHash();
+    int slot = (int) (hash ^ (hash >>> 32)) & (tableSize - 1);
+    if (tableBounds[slot] != 0 && tableKeys[slot] == hash) {
+      int value = tableValues[slot];
+      if (tableBounds[slot] == EXACT
+              || tableBounds[slot] == LOWER && value >= beta
+              || tableBounds[slot] == UPPER && value <= alpha) {
+        return value;
+      }
+    }
+    int count = game.getValidMoves(game.getCurrentTurn(), buffer(ply));
+    int[] moves = moveBuffers[ply];
+    int best = -INFINITY;
+    for (int i = 0; i < count && best < beta; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      int score = -search(-beta, -Math.max(alpha, best), ply + 1);
+      game.undoMove();
+      best = Math.max(best, score);
+    }
+    if (best < beta) {
+      game.skipTurn();
+      best = Math.max(best, -search(-beta, -Math.max(alpha, best), ply + 1));
+      game.undoMove();
+    }
+    tableKeys[slot] = hash;
+    tableValues[slot] = best;
+    tableBounds[slot] = best <= alpha ? UPPER : best >= beta ? LOWER : EXACT;
+    return best;
+  }
+
+  // Score difference from the view of the player to move
+  private int difference() {
+    Player turn = game.getCurrentTurn();
+    Player other = turn == Player.RED ? Player.BLUE : Player.RED;
+    return game.getTotalScore(turn) - game.getTotalScore(other);
+  }
+
+  // Returns a buffer for the given ply large enough for every move of the player to move
+  private int[] buffer(int ply) {
+    int needed = 3 * game.getRows() * game.getCols()
+            * Math.max(1, game.getHandSize(game.getCurrentTurn()));
+    if (ply >= moveBuffers.length) {
+      moveBuffers = Arrays.copyOf(moveBuffers, Math.max(ply + 1, moveBuffers.length * 2));
+    }
+    if (moveBuffers[ply] == null || moveBuffers[ply].length < needed) {
+      moveBuffers[ply] = new int[needed];
+    }
+    return moveBuffers[ply];
+  }
+
+  private static int decode(int[] moves, int index) {
+    return moves[3 * index] << 20 | moves[3 * index + 1] << 10 | moves[3 * index + 2];
+  }
+}
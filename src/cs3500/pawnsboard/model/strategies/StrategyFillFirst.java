@@ -1,5 +1,8 @@
 package cs3500.pawnsboard.model.strategies;
 
+import java.util.List;
+
+import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.PawnsBoardReadOnly;
 import cs3500.pawnsboard.model.Player;
 
@@ -19,9 +22,10 @@ public class StrategyFillFirst implements PawnsBoardStrategy {
    */
   @Override
   public Move choosePlay(PawnsBoardReadOnly board, Player player) throws IllegalStateException {
+    List<Card> hand = board.getHand(player);
     for (int r = 0; r < board.getRows(); r++) {
       for (int c = 0; c < board.getCols(); c++) {
-        for (int i = 0; i < board.getHand(player).size(); i++) {
+        for (int i = 0; i < hand.size(); i++) {
           if (board.isMoveValid(r, c, i, player)) {
             return new Move(r, c, i);
           }
@@ -1,5 +1,8 @@
 package cs3500.pawnsboard.model.strategies;
 
+import java.util.List;
+
+import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.PawnsBoardReadOnly;
 import cs3500.pawnsboard.model.Player;
 
@@ -20,6 +23,7 @@ public class StrategyMaximizeRowScore implements PawnsBoardStrategy {
    */
   @Override
   public Move choosePlay(PawnsBoardReadOnly board, Player player) throws IllegalStateException {
+    List<Card> hand = board.getHand(player);
     Player other;
     if (player == Player.RED) {
       other = Player.BLUE;
@@ -29,9 +33,9 @@ public class StrategyMaximizeRowScore implements PawnsBoardStrategy {
     for (int r = 0; r < board.getRows(); r++) {
       if (board.getRowScore(player, r) <= board.getRowScore(other, r)) {
         for (int c = 0; c < board.getCols(); c++) {
-          for (int i = 0; i < board.getHand(player).size(); i++) {
+          for (int i = 0; i < hand.size(); i++) {
             if (board.isMoveValid(r, c, i, player)) {
-              int value = board.getHand(player).get(i).getValue();
+              int value = hand.get(i).getValue();
               if (board.getRowScore(player, r) + value > board.getRowScore(other, r)) {
                 return new Move(r, c, i);
               }
@@ -0,0 +1,383 @@
+package cs3500.pawnsboard.model.strategies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardReadOnly;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.SearchablePawnsBoard;
+
+/**
+ * Strategy for a game of pawns board which chooses moves by Monte Carlo tree search.  Until its
+ * time budget runs out, each worker thread grows its own search tree on its own fork of the game,
+ * picking which line to explore with the UCT formula and scoring each line by finishing the game
+ * with uniformly random moves.  The trees' statistics for the first move are then merged, and the
+ * move tried the most is played.
+ * Playouts make and take back moves on the fork, so they follow the same rules as the game itself.
+ * Taking back a move does not take back the fork's random draws, so when cards are drawn randomly
+ * a line of moves can reach a different position each time it is followed.  Each node remembers
+ * the position and the order of the hand its moves were found in, as moves name cards by their
+ * index in the hand, and when a visit reaches a different position its moves are found again,
+ * with only the children whose moves are still valid there being selected from.
+ * Passing is only considered when no card can be placed.
+ * The board must be a SearchablePawnsBoard.  An instance is not safe to share between threads.
+ * Searches run on a pool of worker threads shared by every instance, which are kept only while
+ * searching and do not keep the program alive.
+ */
+public class StrategyMonteCarlo implements PawnsBoardStrategy {
+
+  private static final int PASS = -1;
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  // Shared by every instance, so strategies made per game do not each hold their own threads
+  private static final ExecutorService WORKERS = Executors.newCachedThreadPool(task -> {
+    Thread thread = new Thread(task, "pawns-monte-carlo");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final long budgetNanos;
+  private final int threads;
+  private final Random seeds;
+
+  private long lastPlayouts;
+
+  /**
+   * Creates a new Monte Carlo strategy with the given time budget per decision, searching on
+   * every available core.
+   *
+   * @param budgetMillis the wall-clock time allowed per call to choosePlay
+   * @throws IllegalArgumentException if the budget is not positive
+   */
+  public StrategyMonteCarlo(long budgetMillis) {
+    this(budgetMillis, Runtime.getRuntime().availableProcessors(), new Random());
+  }
+
+  /**
+   * Creates a new Monte Carlo strategy with the given time budget per decision, searching with
+   * the given number of threads, each seeded from the given random.
+   *
+   * @param budgetMillis the wall-clock time allowed per call to choosePlay
+   * @param threads the number of trees to search in parallel
+   * @param rand random used to seed each search
+   * @throws IllegalArgumentException if the budget or number of threads is not positive
+   *                                  if the given random is null
+   */
+  public StrategyMonteCarlo(long budgetMillis, int threads, Random rand) {
+    if (budgetMillis < 1 || threads < 1) {
+      throw new IllegalArgumentException("Budget and threads must be positive");
+    }
+    if (rand == null) {
+      throw new IllegalArgumentException("random must not be null");
+    }
+    this.budgetNanos = budgetMillis * 1_000_000;
+    this.threads = threads;
+    this.seeds = rand;
+  }
+
+  /**
+   * Returns a move to be made given this class' strategy.  A move contains the row, col, and hand
+   * id of the card to be played for the given player.
+   *
+   * @param board  the board to base the move off of
+   * @param player the player to make the move for
+   * @return the move to be made
+   * @throws IllegalStateException if there are no moves available
+   * @throws IllegalArgumentException if the board cannot be searched
+   *                                  if it is not the given player's turn
+   */
+  @Override
+  public Move choosePlay(PawnsBoardReadOnly board, Player player) throws IllegalStateException {
+    if (!(board instanceof SearchablePawnsBoard)) {
+      throw new IllegalArgumentException("Board must be searchable");
+    }
+    if (board.getCurrentTurn() != player) {
+      throw new IllegalArgumentException("Can only choose a move for the player to move");
+    }
+    SearchablePawnsBoard game = (SearchablePawnsBoard) board;
+    if (game.isGameOver() || game.getValidMoves(player, new int[moveCapacity(game)]) == 0) {
+      throw new IllegalStateException("No available moves found");
+    }
+    long deadline = System.nanoTime() + budgetNanos;
+    // Forking writes to the game, so every fork is made here before any worker starts
+    List<Future<Node>> trees = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      Tree tree = new Tree(game.fork(new Random(seeds.nextLong())), seeds.nextLong());
+      trees.add(WORKERS.submit(() -> tree.search(deadline)));
+    }
+    Map<Integer, Integer> visits = new HashMap<>();
+    lastPlayouts = 0;
+    for (Future<Node> tree : trees) {
+      Node root = join(tree);
+      lastPlayouts += root.visits;
+      for (int i = 0; i < root.expanded; i++) {
+        visits.merge(root.children[i].move, root.children[i].visits, Integer::sum);
+      }
+    }
+    int best = 0;
+    int bestVisits = -1;
+    for (Map.Entry<Integer, Integer> entry : visits.entrySet()) {
+      if (entry.getValue() > bestVisits) {
+        best = entry.getKey();
+        bestVisits = entry.getValue();
+      }
+    }
+    return new Move(best >>> 20, (best >>> 10) & 0x3FF, best & 0x3FF);
+  }
+
+  /**
+   * Returns the number of playouts run, across every thread, while choosing the last move.
+   *
+   * @return the playout count
+   */
+  public long getLastPlayouts() {
+    return lastPlayouts;
+  }
+
+  private static Node join(Future<Node> tree) {
+    try {
+      return tree.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while searching", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  // Large enough for every move of the player to move
+  private static int moveCapacity(SearchablePawnsBoard game) {
+    return 3 * game.getRows() * game.getCols()
+            * Math.max(1, game.getHandSize(game.getCurrentTurn()));
+  }
+
+  // One worker's search tree, grown on its own fork of the game
+  private static final class Tree {
+    private final SearchablePawnsBoard game;
+    private final Random random;
+    private final Node root = new Node(PASS, null);
+    private final List<Node> path = new ArrayList<>();
+    private int[] moves = new int[0];
+
+    private Tree(SearchablePawnsBoard game, long seed) {
+      this.game = game;
+      this.random = new Random(seed);
+    }
+
+    private Node search(long deadline) {
+      do {
+        playout();
+      } while (System.nanoTime() < deadline);
+      return root;
+    }
+
+    // Selects and expands one new node, finishes the game randomly, then backs the result up
+    private void playout() {
+      path.clear();
+      path.add(root);
+      Node node = root;
+      int made = 0;
+      while (!game.isGameOver()) {
+        long hash = game.getPositionHash();
+        Player mover = game.getCurrentTurn();
+        if (node.moves == null) {
+          node.moves = generateMoves();
+          node.children = new Node[node.moves.length];
+          node.hash = hash;
+          node.hand = game.getHand(mover);
+        }
+        Node next;
+        if (node.hash == hash && sameHand(node.hand, mover)) {
+          next = visitSame(node, mover);
+        } else {
+          next = visitOther(node, mover);
+        }
+        apply(next.move);
+        made++;
+        path.add(next);
+        if (next.visits == 0) {
+          break;
+        }
+        node = next;
+      }
+      while (!game.isGameOver()) {
+        int count = game.getValidMoves(game.getCurrentTurn(), buffer());
+        if (count == 0) {
+          game.skipTurn();
+        } else {
+          int pick = 3 * random.nextInt(count);
+          game.placeCard(moves[pick], moves[pick + 1], moves[pick + 2]);
+        }
+        made++;
+      }
+      Player winner = game.getWinner();
+      for (int i = 0; i < made; i++) {
+        game.undoMove();
+      }
+      for (Node visited : path) {
+        visited.visits++;
+        if (winner == null) {
+          visited.wins += 0.5;
+        } else if (winner == visited.mover) {
+          visited.wins += 1;
+        }
+      }
+    }
+
+    // Whether the mover holds the given cards in the same order, read without copying the hand
+    private boolean sameHand(List<Card> hand, Player mover) {
+      if (game.getHandSize(mover) != hand.size()) {
+        return false;
+      }
+      for (int i = 0; i < hand.size(); i++) {
+        if (!hand.get(i).equals(game.getHandCard(mover, i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // Expands a move not yet tried from the position the node's moves were found in, or else
+    // selects among the children whose moves are valid in it
+    private Node visitSame(Node node, Player mover) {
+      while (node.tried < node.moves.length) {
+        int pick = node.tried + random.nextInt(node.moves.length - node.tried);
+        int move = node.moves[pick];
+        node.moves[pick] = node.moves[node.tried];
+        node.moves[node.tried++] = move;
+        if (child(node, move) == null) {
+          return expand(node, move, mover);
+        }
+      }
+      // Children beyond the node's own moves were expanded from other positions
+      return select(node, node.expanded > node.moves.length ? node.moves : null);
+    }
+
+    // Expands a move not yet tried from a position other than the one the node's moves were found
+    // in, or else selects among the children whose moves are valid in it
+    private Node visitOther(Node node, Player mover) {
+      int[] valid = generateMoves();
+      int untried = 0;
+      for (int i = 0; i < valid.length; i++) {
+        if (child(node, valid[i]) == null) {
+          valid[untried++] = valid[i];
+        }
+      }
+      if (untried > 0) {
+        return expand(node, valid[random.nextInt(untried)], mover);
+      }
+      return select(node, valid);
+    }
+
+    // Adds a child for the given move, growing the node's children if needed
+    private Node expand(Node node, int move, Player mover) {
+      if (node.expanded == node.children.length) {
+        node.children = Arrays.copyOf(node.children, node.children.length * 2 + 1);
+      }
+      Node child = new Node(move, mover);
+      node.children[node.expanded++] = child;
+      return child;
+    }
+
+    private static Node child(Node node, int move) {
+      for (int i = 0; i < node.expanded; i++) {
+        if (node.children[i].move == move) {
+          return node.children[i];
+        }
+      }
+      return null;
+    }
+
+    // The child with the highest upper confidence bound, among those whose moves are in the given
+    // moves, or among every child if they are null
+    private Node select(Node node, int[] valid) {
+      double logVisits = Math.log(node.visits);
+      Node best = null;
+      double bestBound = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < node.expanded; i++) {
+        Node child = node.children[i];
+        if (valid != null && !contains(valid, child.move)) {
+          continue;
+        }
+        double bound = child.wins / child.visits
+                + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (bound > bestBound) {
+          best = child;
+          bestBound = bound;
+        }
+      }
+      return best;
+    }
+
+    private static boolean contains(int[] moves, int move) {
+      for (int candidate : moves) {
+        if (candidate == move) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int[] generateMoves() {
+      int count = game.getValidMoves(game.getCurrentTurn(), buffer());
+      if (count == 0) {
+        return new int[] {PASS};
+      }
+      int[] generated = new int[count];
+      for (int i = 0; i < count; i++) {
+        generated[i] = moves[3 * i] << 20 | moves[3 * i + 1] << 10 | moves[3 * i + 2];
+      }
+      return generated;
+    }
+
+    private void apply(int move) {
+      if (move == PASS) {
+        game.skipTurn();
+      } else {
+        game.placeCard(move >>> 20, (move >>> 10) & 0x3FF, move & 0x3FF);
+      }
+    }
+
+    private int[] buffer() {
+      int needed = moveCapacity(game);
+      if (moves.length < needed) {
+        moves = new int[needed];
+      }
+      return moves;
+    }
+  }
+
+  // A position in a search tree, reached by a move from its parent
+  private static final class Node {
+    private final int move;
+    // The player who made the move into this node, whose wins it counts
+    private final Player mover;
+    // Position hash and mover's hand the moves were found in
+    private long hash;
+    private List<Card> hand;
+    private int[] moves;
+    private Node[] children;
+    // How many of the moves have been tried, which come first in the moves
+    private int tried;
+    private int expanded;
+    private int visits;
+    private double wins;
+
+    private Node(int move, Player mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package cs3500.pawnsboard.simulation;
+
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * The outcome of one game played by a SelfPlayEngine, being who won, each player's total score,
+ * how many moves were made, and how long the game and each player's decisions took.
+ * A move is a card placement or a skipped turn.
+ */
+public final class GameResult {
+
+  /**
+   * The column names of the lines written by toString, separated by commas.
+   */
+  public static final String HEADER = "game,winner,redScore,blueScore,moves,redNanos,blueNanos,"
+          + "nanos";
+
+  private final long game;
+  private final Player winner;
+  private final int redScore;
+  private final int blueScore;
+  private final int moves;
+  private final long redNanos;
+  private final long blueNanos;
+  private final long nanos;
+
+  /**
+   * Creates the result of a finished game.
+   *
+   * @param game the index of the game in its run
+   * @param winner the winner, or null for a tie
+   * @param redScore red's total score
+   * @param blueScore blue's total score
+   * @param moves the number of moves made
+   * @param redNanos the time red's strategy spent choosing moves
+   * @param blueNanos the time blue's strategy spent choosing moves
+   * @param nanos the time the whole game took, including setting it up
+   */
+  GameResult(long game, Player winner, int redScore, int blueScore, int moves, long redNanos,
+             long blueNanos, long nanos) {
+    this.game = game;
+    this.winner = winner;
+    this.redScore = redScore;
+    this.blueScore = blueScore;
+    this.moves = moves;
+    this.redNanos = redNanos;
+    this.blueNanos = blueNanos;
+    this.nanos = nanos;
+  }
+
+  /**
+   * Returns the index of the game in its run, which with the run's seed decides every random
+   * choice made in the game.
+   *
+   * @return the game index
+   */
+  public long getGame() {
+    return game;
+  }
+
+  /**
+   * Returns the player who won, or null if the game was a tie.
+   *
+   * @return the winner
+   */
+  public Player getWinner() {
+    return winner;
+  }
+
+  /**
+   * Returns the given player's total score at the end of the game.
+   *
+   * @param player the player to get the score of
+   * @return the player's score
+   * @throws IllegalArgumentException if player is null
+   */
+  public int getScore(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return player == Player.RED ? redScore : blueScore;
+  }
+
+  /**
+   * Returns the number of card placements and skipped turns made in the game.
+   *
+   * @return the move count
+   */
+  public int getMoves() {
+    return moves;
+  }
+
+  /**
+   * Returns the time the given player's strategy spent choosing its moves.
+   *
+   * @param player the player to get the time of
+   * @return the time in nanoseconds
+   * @throws IllegalArgumentException if player is null
+   */
+  public long getDecisionNanos(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return player == Player.RED ? redNanos : blueNanos;
+  }
+
+  /**
+   * Returns the time the whole game took, from setting it up to its last move.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getNanos() {
+    return nanos;
+  }
+
+  /**
+   * Returns this result as one line of comma separated values, in the order of HEADER, with an
+   * empty winner for a tie.
+   *
+   * @return the result as a line
+   */
+  @Override
+  public String toString() {
+    return game + "," + (winner == null ? "" : winner) + "," + redScore + "," + blueScore + ","
+            + moves + "," + redNanos + "," + blueNanos + "," + nanos;
+  }
+}
@@ -0,0 +1,43 @@
+package cs3500.pawnsboard.simulation;
+
+import java.io.IOException;
+
+/**
+ * Receives the result of each game a SelfPlayEngine finishes, in the order the games finish.
+ * The engine hands results to a sink one at a time, so a sink need not be safe to share between
+ * threads itself.
+ */
+public interface GameResultSink {
+
+  /**
+   * Receives the result of a finished game.
+   *
+   * @param result the game's result
+   */
+  void accept(GameResult result);
+
+  /**
+   * Returns a sink writing each result to the given output as a line of comma separated values,
+   * after first writing the header line.
+   *
+   * @param out the output to write to
+   * @return the sink
+   * @throws IllegalArgumentException if out is null
+   * @throws IllegalStateException if the header or a later result cannot be written
+   */
+  static GameResultSink writingTo(Appendable out) {
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    write(out, GameResult.HEADER);
+    return result -> write(out, result.toString());
+  }
+
+  private static void write(Appendable out, String line) {
+    try {
+      out.append(line).append(System.lineSeparator());
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write result", e);
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package cs3500.pawnsboard.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.Move;
+import cs3500.pawnsboard.model.strategies.PawnsBoardStrategy;
+
+/**
+ * Plays complete games of pawns board between two strategies without any view, spreading the
+ * games of a run across worker threads.  Every game is set up the same way, from the same decks.
+ * A player passes when it has no valid move, or when its strategy finds no move to make and
+ * throws an IllegalStateException, and otherwise plays the move its strategy chooses.
+ * Each game's random choices, being its card draws and the randoms given to its strategies, come
+ * from a seed worked out from the run's seed and the game's index alone.  So long as neither
+ * strategy depends on the clock, a run then gives the same results however many threads play it,
+ * and any one game can be played again on its own.  Strategies with a time budget, such as the
+ * alpha-beta and Monte Carlo strategies or an endgame strategy leaving its opening to one of
+ * them, search as far as time and thread scheduling allow, so their games can differ between runs.
+ * Strategies are made fresh for every game, so they need not be safe to share between threads.
+ */
+public class SelfPlayEngine {
+
+  // Games a worker claims at once, so workers rarely contend for the next game
+  private static final int BATCH = 16;
+
+  private final int rows;
+  private final int cols;
+  private final List<Card> redDeck;
+  private final List<Card> blueDeck;
+  private final int handSize;
+  private final boolean randomDraw;
+  private final int threads;
+
+  /**
+   * Creates a new engine playing games set up with the given board size, decks, and hand size,
+   * on every available core.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @param redDeck red player's deck
+   * @param blueDeck blue player's deck
+   * @param handSize the starting hand size for both players
+   * @param randomDraw whether each new card is drawn randomly or from the front
+   * @throws IllegalArgumentException if a game cannot be started with the given arguments
+   */
+  public SelfPlayEngine(int rows, int cols, List<Card> redDeck, List<Card> blueDeck, int handSize,
+                        boolean randomDraw) {
+    this(rows, cols, redDeck, blueDeck, handSize, randomDraw,
+            Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new engine playing games set up with the given board size, decks, and hand size,
+   * on the given number of threads.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @param redDeck red player's deck
+   * @param blueDeck blue player's deck
+   * @param handSize the starting hand size for both players
+   * @param randomDraw whether each new card is drawn randomly or from the front
+   * @param threads the number of games to play at once
+   * @throws IllegalArgumentException if a game cannot be started with the given arguments
+   *                                  if the number of threads is not positive
+   */
+  public SelfPlayEngine(int rows, int cols, List<Card> redDeck, List<Card> blueDeck, int handSize,
+                        boolean randomDraw, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    // Starting a game checks the board size, decks, and hand size the way every game will
+    new PawnsBoardGame(rows, cols).startGame(redDeck, blueDeck, handSize, randomDraw);
+    this.rows = rows;
+    this.cols = cols;
+    this.redDeck = List.copyOf(redDeck);
+    this.blueDeck = List.copyOf(blueDeck);
+    this.handSize = handSize;
+    this.randomDraw = randomDraw;
+    this.threads = threads;
+  }
+
+  /**
+   * Plays the given number of games between the given strategies, handing each result to the
+   * sink as its game finishes, and returns once every game has finished.  Each strategy is made
+   * for each game by its factory, from a random seeded for that game.
+   *
+   * @param red makes red's strategy for a game
+   * @param blue makes blue's strategy for a game
+   * @param games the number of games to play
+   * @param seed the seed deciding every game's random choices
+   * @param sink receives each game's result
+   * @throws IllegalArgumentException if a factory or the sink is null
+   *                                  if the number of games is negative
+   * @throws IllegalStateException if a game could not be finished, as a strategy chose an invalid
+   *                               move, or if interrupted while waiting for the games
+   */
+  public void run(Function<Random, PawnsBoardStrategy> red,
+                  Function<Random, PawnsBoardStrategy> blue, long games, long seed,
+                  GameResultSink sink) {
+    if (red == null || blue == null || sink == null) {
+      throw new IllegalArgumentException("Strategies and sink cannot be null");
+    }
+    if (games < 0) {
+      throw new IllegalArgumentException("Games cannot be negative");
+    }
+    AtomicLong next = new AtomicLong();
+    AtomicBoolean failed = new AtomicBoolean();
+    Runnable worker = () -> {
+      try {
+        long first;
+        while (!failed.get() && (first = next.getAndAdd(BATCH)) < games) {
+          for (long game = first; game < Math.min(first + BATCH, games); game++) {
+            GameResult result = play(red, blue, game, seed);
+            synchronized (sink) {
+              sink.accept(result);
+            }
+          }
+        }
+      } catch (RuntimeException e) {
+        failed.set(true);
+        throw e;
+      }
+    };
+    ExecutorService workers = Executors.newFixedThreadPool(threads, task -> {
+      Thread thread = new Thread(task, "pawns-self-play");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      List<Future<?>> running = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        running.add(workers.submit(worker));
+      }
+      for (Future<?> work : running) {
+        join(work);
+      }
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays the game with the given index of a run with the given seed on the calling thread, giving
+   * the same result as that game gave in the run unless either strategy depends on the clock.
+   *
+   * @param red makes red's strategy for the game
+   * @param blue makes blue's strategy for the game
+   * @param game the index of the game in its run
+   * @param seed the seed of the run
+   * @return the game's result
+   * @throws IllegalArgumentException if a factory is null
+   * @throws IllegalStateException if the game could not be finished, as a strategy chose an
+   *                               invalid move
+   */
+  public GameResult play(Function<Random, PawnsBoardStrategy> red,
+                         Function<Random, PawnsBoardStrategy> blue, long game, long seed) {
+    if (red == null || blue == null) {
+      throw new IllegalArgumentException("Strategies cannot be null");
+    }
+    long start = System.nanoTime();
+    Random seeds = new Random(gameSeed(seed, game));
+    PawnsBoardGame model = new PawnsBoardGame(rows, cols, new Random(seeds.nextLong()));
+    model.startGame(redDeck, blueDeck, handSize, randomDraw);
+    PawnsBoardStrategy redStrategy = red.apply(new Random(seeds.nextLong()));
+    PawnsBoardStrategy blueStrategy = blue.apply(new Random(seeds.nextLong()));
+    long[] decisionNanos = new long[Player.values().length];
+    int[] buffer = new int[0];
+    int moves = 0;
+    while (!model.isGameOver()) {
+      Player turn = model.getCurrentTurn();
+      int needed = 3 * rows * cols * Math.max(1, model.getHand(turn).size());
+      if (buffer.length < needed) {
+        buffer = new int[needed];
+      }
+      Move move = null;
+      if (model.getValidMoves(turn, buffer) > 0) {
+        move = choose(turn == Player.RED ? redStrategy : blueStrategy, model, turn,
+                decisionNanos);
+      }
+      if (move == null) {
+        model.skipTurn();
+      } else {
+        try {
+          model.placeCard(move.row, move.col, move.handIndex);
+        } catch (RuntimeException e) {
+          throw new IllegalStateException("Game " + game + " could not be finished: "
+                  + turn + " chose an invalid move", e);
+        }
+      }
+      moves++;
+    }
+    return new GameResult(game, model.getWinner(), model.getTotalScore(Player.RED),
+            model.getTotalScore(Player.BLUE), moves, decisionNanos[Player.RED.ordinal()],
+            decisionNanos[Player.BLUE.ordinal()], System.nanoTime() - start);
+  }
+
+  // The strategy's move, or null if it passes by finding no move, adding the time it took
+  private static Move choose(PawnsBoardStrategy strategy, PawnsBoardGame model, Player turn,
+                             long[] decisionNanos) {
+    long start = System.nanoTime();
+    try {
+      return strategy.choosePlay(model, turn);
+    } catch (IllegalStateException e) {
+      return null;
+    } finally {
+      decisionNanos[turn.ordinal()] += System.nanoTime() - start;
+    }
+  }
+
+  // Mixes the run's seed and a game's index, so neighbouring games get unrelated seeds
+  private static long gameSeed(long seed, long game) {
+    long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static void join(Future<?> work) {
+    try {
+      work.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while playing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package cs3500.pawnsboard.simulation;
+
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * A sink which keeps running totals of the games it is given: how many each player won or tied,
+ * and each player's total score and decision time, along with the total moves and game time.
+ */
+public class SimulationTally implements GameResultSink {
+
+  private long games;
+  private long ties;
+  private final long[] wins = new long[Player.values().length];
+  private final long[] scores = new long[Player.values().length];
+  private final long[] decisionNanos = new long[Player.values().length];
+  private long moves;
+  private long nanos;
+
+  @Override
+  public void accept(GameResult result) {
+    games++;
+    if (result.getWinner() == null) {
+      ties++;
+    } else {
+      wins[result.getWinner().ordinal()]++;
+    }
+    for (Player player : Player.values()) {
+      scores[player.ordinal()] += result.getScore(player);
+      decisionNanos[player.ordinal()] += result.getDecisionNanos(player);
+    }
+    moves += result.getMoves();
+    nanos += result.getNanos();
+  }
+
+  /**
+   * Returns the number of games tallied.
+   *
+   * @return the game count
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of tallied games the given player won.
+   *
+   * @param player the player to get the wins of
+   * @return the win count
+   * @throws IllegalArgumentException if player is null
+   */
+  public long getWins(Player player) {
+    return wins[index(player)];
+  }
+
+  /**
+   * Returns the number of tallied games which were tied.
+   *
+   * @return the tie count
+   */
+  public long getTies() {
+    return ties;
+  }
+
+  /**
+   * Returns the given player's scores summed over every tallied game.
+   *
+   * @param player the player to get the scores of
+   * @return the summed score
+   * @throws IllegalArgumentException if player is null
+   */
+  public long getTotalScore(Player player) {
+    return scores[index(player)];
+  }
+
+  /**
+   * Returns the time the given player's strategy spent choosing moves, summed over every tallied
+   * game.
+   *
+   * @param player the player to get the time of
+   * @return the time in nanoseconds
+   * @throws IllegalArgumentException if player is null
+   */
+  public long getDecisionNanos(Player player) {
+    return decisionNanos[index(player)];
+  }
+
+  /**
+   * Returns the moves made, summed over every tallied game.
+   *
+   * @return the move count
+   */
+  public long getMoves() {
+    return moves;
+  }
+
+  /**
+   * Returns the time taken by each game, summed over every tallied game.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getNanos() {
+    return nanos;
+  }
+
+  private static int index(Player player) {
+    if (player == null) {
+      throw new IllegalArgumentException("Player cannot be null");
+    }
+    return player.ordinal();
+  }
+}
@@ -0,0 +1,146 @@
+package cs3500.pawnsboard.simulation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.PawnsBoardStrategy;
+
+/**
+ * A round robin tournament between named strategies, played with SelfPlayEngines.  Every pair of
+ * strategies meets once on each registered pair of decks for each way of assigning colors, and
+ * each of those matches is a run of the same number of games spread across worker threads.
+ * Both color assignments of a pair on the same decks are played from the same seed, so each
+ * strategy faces the same draws from either side of the board.  Results are only reproducible
+ * from the seed when no strategy depends on the clock, which the time budgeted alpha-beta and
+ * Monte Carlo strategies do, as does an endgame strategy leaving its opening to one of them.
+ */
+public class Tournament {
+
+  private final int rows;
+  private final int cols;
+  private final int handSize;
+  private final boolean randomDraw;
+  private final int threads;
+  private final Map<String, Function<Random, PawnsBoardStrategy>> strategies =
+          new LinkedHashMap<>();
+  private final List<SelfPlayEngine> engines = new ArrayList<>();
+
+  /**
+   * Creates a new tournament on boards of the given size with the given hand size, playing on
+   * every available core.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @param handSize the starting hand size for both players
+   * @param randomDraw whether each new card is drawn randomly or from the front
+   */
+  public Tournament(int rows, int cols, int handSize, boolean randomDraw) {
+    this(rows, cols, handSize, randomDraw, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new tournament on boards of the given size with the given hand size, playing with
+   * the given number of threads.
+   *
+   * @param rows number of rows
+   * @param cols number of columns
+   * @param handSize the starting hand size for both players
+   * @param randomDraw whether each new card is drawn randomly or from the front
+   * @param threads the number of games to play at once
+   * @throws IllegalArgumentException if the number of threads is not positive
+   */
+  public Tournament(int rows, int cols, int handSize, boolean randomDraw, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.handSize = handSize;
+    this.randomDraw = randomDraw;
+    this.threads = threads;
+  }
+
+  /**
+   * Registers a strategy to play in the tournament under the given name.  The factory makes the
+   * strategy for each game from a random seeded for that game.
+   *
+   * @param name the strategy's name
+   * @param strategy makes the strategy for a game
+   * @throws IllegalArgumentException if the name or factory is null
+   *                                  if a strategy is already registered under the name
+   */
+  public void addStrategy(String name, Function<Random, PawnsBoardStrategy> strategy) {
+    if (name == null || strategy == null) {
+      throw new IllegalArgumentException("Name and strategy cannot be null");
+    }
+    if (strategies.containsKey(name)) {
+      throw new IllegalArgumentException("Strategy already registered: " + name);
+    }
+    strategies.put(name, strategy);
+  }
+
+  /**
+   * Registers a pair of decks for the tournament's games to be played with.  Every pairing of
+   * strategies plays on every registered pair of decks.
+   *
+   * @param redDeck the deck of whichever strategy plays red
+   * @param blueDeck the deck of whichever strategy plays blue
+   * @throws IllegalArgumentException if a game cannot be started with the decks
+   */
+  public void addDecks(List<Card> redDeck, List<Card> blueDeck) {
+    engines.add(new SelfPlayEngine(rows, cols, redDeck, blueDeck, handSize, randomDraw, threads));
+  }
+
+  /**
+   * Plays every match of the tournament and returns its results.  A match is one pair of
+   * strategies with one assignment of colors on one pair of decks, so each pair of strategies
+   * plays twice the given number of games on each pair of decks.
+   *
+   * @param gamesPerMatch the number of games in each match
+   * @param seed the seed deciding every game's random choices
+   * @return the tournament's results
+   * @throws IllegalArgumentException if the number of games is not positive
+   * @throws IllegalStateException if fewer than two strategies or no decks are registered
+   *                               if a game could not be finished
+   */
+  public TournamentResult run(long gamesPerMatch, long seed) {
+    if (gamesPerMatch < 1) {
+      throw new IllegalArgumentException("Games per match must be positive");
+    }
+    if (strategies.size() < 2 || engines.isEmpty()) {
+      throw new IllegalStateException("Need at least two strategies and a pair of decks");
+    }
+    List<String> names = new ArrayList<>(strategies.keySet());
+    long[][] wins = new long[names.size()][names.size()];
+    long[][] ties = new long[names.size()][names.size()];
+    Random seeds = new Random(seed);
+    for (int first = 0; first < names.size(); first++) {
+      for (int second = first + 1; second < names.size(); second++) {
+        for (SelfPlayEngine engine : engines) {
+          long matchSeed = seeds.nextLong();
+          playMatch(engine, names, first, second, gamesPerMatch, matchSeed, wins, ties);
+          playMatch(engine, names, second, first, gamesPerMatch, matchSeed, wins, ties);
+        }
+      }
+    }
+    return new TournamentResult(names, wins, ties);
+  }
+
+  // Plays one match with the first strategy as red, adding its results to the tables
+  private void playMatch(SelfPlayEngine engine, List<String> names, int red, int blue,
+                         long games, long seed, long[][] wins, long[][] ties) {
+    SimulationTally tally = new SimulationTally();
+    engine.run(strategies.get(names.get(red)), strategies.get(names.get(blue)), games, seed,
+            tally);
+    wins[red][blue] += tally.getWins(Player.RED);
+    wins[blue][red] += tally.getWins(Player.BLUE);
+    ties[red][blue] += tally.getTies();
+    ties[blue][red] += tally.getTies();
+  }
+}
@@ -0,0 +1,274 @@
+package cs3500.pawnsboard.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of a round robin Tournament: how often each strategy beat or tied each other, and
+ * the ratings worked out from those results.
+ * Elo ratings are the most likely ratings given every game, under the Elo model where a player
+ * rated 400 points higher is ten times as likely to win, with a tie counting as half a win.  One
+ * virtual tie is added between each pair, which keeps ratings finite when one strategy wins every
+ * game.  Their 95% margins treat the opponents' ratings as exact.
+ * Glicko ratings treat the whole tournament as a single rating period, with every strategy
+ * starting at 1500 with a deviation of 350, so their 95% intervals are about two deviations wide
+ * on either side.
+ * Both scales average 1500 over the strategies.
+ */
+public final class TournamentResult {
+
+  private static final double BASE = 1500;
+  private static final double START_DEVIATION = 350;
+  private static final double Q = Math.log(10) / 400;
+  private static final double Z95 = 1.96;
+
+  private final List<String> names;
+  private final Map<String, Integer> indexes = new HashMap<>();
+  private final long[][] wins;
+  private final long[][] ties;
+  private final double[] elo;
+  private final double[] eloMargin;
+  private final double[] glicko;
+  private final double[] glickoDeviation;
+
+  /**
+   * Creates the results of a tournament from its tables, which are not copied.
+   *
+   * @param names the strategies' names, in the order of the tables
+   * @param wins the number of games the strategy of each row won against the one of each column
+   * @param ties the number of games each pair tied, the same either way around
+   */
+  TournamentResult(List<String> names, long[][] wins, long[][] ties) {
+    this.names = List.copyOf(names);
+    for (int i = 0; i < names.size(); i++) {
+      indexes.put(names.get(i), i);
+    }
+    this.wins = wins;
+    this.ties = ties;
+    this.elo = new double[names.size()];
+    this.eloMargin = new double[names.size()];
+    this.glicko = new double[names.size()];
+    this.glickoDeviation = new double[names.size()];
+    rateElo();
+    rateGlicko();
+  }
+
+  /**
+   * Returns the names of the strategies which played, in the order they were registered.
+   *
+   * @return the strategies' names
+   */
+  public List<String> getStrategies() {
+    return names;
+  }
+
+  /**
+   * Returns the names of the strategies from the highest Elo rating to the lowest.
+   *
+   * @return the strategies' names in order of rating
+   */
+  public List<String> getStandings() {
+    List<String> standings = new ArrayList<>(names);
+    standings.sort(Comparator.comparingDouble(name -> -elo[indexes.get(name)]));
+    return standings;
+  }
+
+  /**
+   * Returns the number of games the first strategy won against the second.
+   *
+   * @param winner the strategy whose wins to count
+   * @param loser the strategy it played
+   * @return the win count
+   * @throws IllegalArgumentException if either strategy did not play
+   */
+  public long getWins(String winner, String loser) {
+    return wins[index(winner)][index(loser)];
+  }
+
+  /**
+   * Returns the number of games the given strategies tied against each other.
+   *
+   * @param first one strategy
+   * @param second the other strategy
+   * @return the tie count
+   * @throws IllegalArgumentException if either strategy did not play
+   */
+  public long getTies(String first, String second) {
+    return ties[index(first)][index(second)];
+  }
+
+  /**
+   * Returns the number of games the given strategies played against each other.
+   *
+   * @param first one strategy
+   * @param second the other strategy
+   * @return the game count
+   * @throws IllegalArgumentException if either strategy did not play
+   */
+  public long getGames(String first, String second) {
+    return games(index(first), index(second));
+  }
+
+  /**
+   * Returns the given strategy's Elo rating.
+   *
+   * @param name the strategy
+   * @return the rating
+   * @throws IllegalArgumentException if the strategy did not play
+   */
+  public double getElo(String name) {
+    return elo[index(name)];
+  }
+
+  /**
+   * Returns how far either side of the given strategy's Elo rating its 95% confidence interval
+   * reaches.
+   *
+   * @param name the strategy
+   * @return the margin
+   * @throws IllegalArgumentException if the strategy did not play
+   */
+  public double getEloMargin(String name) {
+    return eloMargin[index(name)];
+  }
+
+  /**
+   * Returns the given strategy's Glicko rating.
+   *
+   * @param name the strategy
+   * @return the rating
+   * @throws IllegalArgumentException if the strategy did not play
+   */
+  public double getGlicko(String name) {
+    return glicko[index(name)];
+  }
+
+  /**
+   * Returns the deviation of the given strategy's Glicko rating.
+   *
+   * @param name the strategy
+   * @return the rating deviation
+   * @throws IllegalArgumentException if the strategy did not play
+   */
+  public double getGlickoDeviation(String name) {
+    return glickoDeviation[index(name)];
+  }
+
+  /**
+   * Returns the standings, with each strategy's ratings and intervals, followed by the win matrix,
+   * where each row shows the wins, ties, and losses of its strategy against each column's.
+   *
+   * @return the results as text
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    int width = 8;
+    for (String name : names) {
+      width = Math.max(width, name.length() + 2);
+    }
+    sb.append(String.format("%-" + width + "s%8s%8s%8s%8s%n", "", "Elo", "+/-", "Glicko",
+            "+/-"));
+    for (String name : getStandings()) {
+      int i = index(name);
+      sb.append(String.format("%-" + width + "s%8.0f%8.0f%8.0f%8.0f%n", name, elo[i],
+              eloMargin[i], glicko[i], Z95 * glickoDeviation[i]));
+    }
+    sb.append(System.lineSeparator());
+    sb.append(String.format("%-" + width + "s", ""));
+    for (String name : names) {
+      sb.append(String.format("%" + width * 2 + "s", name));
+    }
+    sb.append(System.lineSeparator());
+    for (int i = 0; i < names.size(); i++) {
+      sb.append(String.format("%-" + width + "s", names.get(i)));
+      for (int j = 0; j < names.size(); j++) {
+        String cell = i == j ? "-" : wins[i][j] + "/" + ties[i][j] + "/" + wins[j][i];
+        sb.append(String.format("%" + width * 2 + "s", cell));
+      }
+      sb.append(System.lineSeparator());
+    }
+    return sb.toString();
+  }
+
+  private int index(String name) {
+    Integer index = indexes.get(name);
+    if (index == null) {
+      throw new IllegalArgumentException("Strategy did not play: " + name);
+    }
+    return index;
+  }
+
+  private long games(int i, int j) {
+    return wins[i][j] + wins[j][i] + ties[i][j];
+  }
+
+  // Finds the most likely strengths by minorization-maximization, then converts them to Elo
+  private void rateElo() {
+    int count = names.size();
+    double[] strength = new double[count];
+    Arrays.fill(strength, 1);
+    for (int iteration = 0; iteration < 10_000; iteration++) {
+      double change = 0;
+      double logSum = 0;
+      double[] next = new double[count];
+      for (int i = 0; i < count; i++) {
+        double score = 0;
+        double denominator = 0;
+        for (int j = 0; j < count; j++) {
+          if (i != j && games(i, j) > 0) {
+            score += wins[i][j] + 0.5 * ties[i][j] + 0.5;
+            denominator += (games(i, j) + 1) / (strength[i] + strength[j]);
+          }
+        }
+        next[i] = denominator == 0 ? 1 : score / denominator;
+        logSum += Math.log(next[i]);
+      }
+      double scale = Math.exp(logSum / count);
+      for (int i = 0; i < count; i++) {
+        next[i] /= scale;
+        change = Math.max(change, Math.abs(Math.log(next[i] / strength[i])));
+        strength[i] = next[i];
+      }
+      if (change < 1e-12) {
+        break;
+      }
+    }
+    for (int i = 0; i < count; i++) {
+      elo[i] = BASE + Math.log(strength[i]) / Q;
+      double information = 0;
+      for (int j = 0; j < count; j++) {
+        if (i != j) {
+          double expected = strength[i] / (strength[i] + strength[j]);
+          information += Q * Q * games(i, j) * expected * (1 - expected);
+        }
+      }
+      eloMargin[i] = information == 0 ? Double.POSITIVE_INFINITY
+              : Z95 / Math.sqrt(information);
+    }
+  }
+
+  // Applies one Glicko rating period, in which every game of the tournament is played
+  private void rateGlicko() {
+    double g = 1 / Math.sqrt(1 + 3 * Q * Q * START_DEVIATION * START_DEVIATION
+            / (Math.PI * Math.PI));
+    for (int i = 0; i < names.size(); i++) {
+      double variance = 0;
+      double surprise = 0;
+      for (int j = 0; j < names.size(); j++) {
+        if (i != j) {
+          // Every strategy starts with the same rating, so each expects to score half
+          variance += Q * Q * g * g * games(i, j) * 0.25;
+          surprise += g * (wins[i][j] + 0.5 * ties[i][j] - 0.5 * games(i, j));
+        }
+      }
+      double precision = 1 / (START_DEVIATION * START_DEVIATION) + variance;
+      glicko[i] = BASE + Q / precision * surprise;
+      glickoDeviation[i] = Math.sqrt(1 / precision);
+    }
+  }
+}
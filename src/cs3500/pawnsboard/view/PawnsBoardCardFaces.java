@@ -0,0 +1,204 @@
+package cs3500.pawnsboard.view;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * A cache of pre-rendered card faces, so that showing a card in a hand is a single image copy.
+ * A face shows the card's name, cost, value, and influence grid on its player's color, or on cyan
+ * when the card is chosen, and is rendered at the pixel scale of the display it is shown on.
+ * Once full, the least recently used face makes room for a new one, so faces of sizes no longer
+ * shown after a resize are the first to go.  The cache is safe to share between threads.
+ */
+public class PawnsBoardCardFaces {
+
+  private static final PawnsBoardCardFaces SHARED = new PawnsBoardCardFaces(128);
+  private static final Font FONT = new Font("Arial", Font.BOLD, 18);
+
+  private final Map<Key, BufferedImage> faces;
+  private long hits;
+  private long misses;
+
+  /**
+   * Creates a new empty cache holding at most the given number of faces.
+   * @param capacity the most faces to keep
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public PawnsBoardCardFaces(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.faces = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the cache shared by the whole program.
+   * @return the shared cache
+   */
+  public static PawnsBoardCardFaces shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the face of the given card, rendering it only if it is not cached.  The image is the
+   * given size times the given scale, and must not be modified.
+   * @param card card
+   * @param player player holding the card
+   * @param width width of the face
+   * @param height height of the face
+   * @param scale pixels per unit of width and height
+   * @param chosen whether the card is the chosen one
+   * @return the card's face
+   * @throws IllegalArgumentException if card or player is null, or size or scale is not positive
+   */
+  public synchronized BufferedImage getFace(Card card, Player player, int width, int height,
+                                            double scale, boolean chosen) {
+    if (Objects.isNull(card) || Objects.isNull(player)) {
+      throw new IllegalArgumentException("Cannot render null card or player");
+    }
+    if (width < 1 || height < 1 || !(scale > 0)) {
+      throw new IllegalArgumentException("Face size must be positive");
+    }
+    Key key = new Key(card, player, width, height, scale, chosen);
+    BufferedImage face = faces.get(key);
+    if (face != null) {
+      hits++;
+      return face;
+    }
+    misses++;
+    face = render(key);
+    faces.put(key, face);
+    return face;
+  }
+
+  /**
+   * Returns the number of faces returned without rendering.
+   * @return the hit count
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Returns the number of faces which had to be rendered.
+   * @return the miss count
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Returns the number of faces currently cached.
+   * @return the number of cached faces
+   */
+  public synchronized int size() {
+    return faces.size();
+  }
+
+  /**
+   * Drops every cached face.  The hit and miss counts are kept.
+   */
+  public synchronized void clear() {
+    faces.clear();
+  }
+
+  // Draws a face as PawnsBoardCardPanel laid it out with labels
+  private static BufferedImage render(Key key) {
+    int width = key.width;
+    int height = key.height;
+    BufferedImage face = new BufferedImage((int) Math.ceil(width * key.scale),
+            (int) Math.ceil(height * key.scale), BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = face.createGraphics();
+    g.scale(key.scale, key.scale);
+    g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+            RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    Color background = key.chosen ? Color.CYAN
+            : key.player == Player.RED ? Color.RED : Color.BLUE;
+    g.setColor(background);
+    g.fillRect(0, 0, width, height);
+    drawBorder(g, 0, 0, width, height);
+
+    Card card = key.card;
+    g.setFont(FONT);
+    g.setColor(Color.WHITE);
+    g.drawString(String.format("%s, Cost: %s, Value: %s",
+            card.getName(), card.getCost(), card.getValue()),
+            0, g.getFontMetrics().getAscent());
+
+    int influenceMask = card.getInfluenceMask();
+    int sizeX = width / 7;
+    int sizeY = height / 9;
+    for (int row = 0; row < 5; row++) {
+      for (int col = 0; col < 5; col++) {
+        if (row == 2 && col == 2) {
+          g.setColor(Color.YELLOW);
+        } else if ((influenceMask & (1 << (row * 5 + col))) != 0) {
+          g.setColor(Color.CYAN);
+        } else {
+          g.setColor(Color.DARK_GRAY);
+        }
+        g.fillRect((col + 1) * sizeX, (row + 2) * sizeY, sizeX, sizeY);
+        drawBorder(g, (col + 1) * sizeX, (row + 2) * sizeY, sizeX, sizeY);
+      }
+    }
+    g.dispose();
+    return face;
+  }
+
+  // Draws a black border 2 units wide inside the given box
+  private static void drawBorder(Graphics2D g, int x, int y, int width, int height) {
+    g.setColor(Color.BLACK);
+    g.fillRect(x, y, width, Math.min(2, height));
+    g.fillRect(x, y + height - 2, width, Math.min(2, height));
+    g.fillRect(x, y, Math.min(2, width), height);
+    g.fillRect(x + width - 2, y, Math.min(2, width), height);
+  }
+
+  // Everything a face's pixels depend on
+  private static final class Key {
+    private final Card card;
+    private final Player player;
+    private final int width;
+    private final int height;
+    private final double scale;
+    private final boolean chosen;
+
+    private Key(Card card, Player player, int width, int height, double scale, boolean chosen) {
+      this.card = card;
+      this.player = player;
+      this.width = width;
+      this.height = height;
+      this.scale = scale;
+      this.chosen = chosen;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return card.equals(key.card) && player == key.player && width == key.width
+              && height == key.height && scale == key.scale && chosen == key.chosen;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(card, player, width, height, scale, chosen);
+    }
+  }
+}
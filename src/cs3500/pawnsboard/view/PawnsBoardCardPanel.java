@@ -1,26 +1,27 @@
 package cs3500.pawnsboard.view;
 
 import java.awt.Color;
-import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.image.BufferedImage;
 
 import javax.swing.JPanel;
-import javax.swing.BorderFactory;
-import javax.swing.JLabel;
 
 import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.Player;
 
 /**
  * PawnsBoardCardPanel implements PawnsBoardPanel and creates a JPanel to display a card.
+ * The card is drawn from a face rendered once and kept in PawnsBoardCardFaces.
  */
 public class PawnsBoardCardPanel extends JPanel implements PawnsBoardPanel, MouseListener {
 
-  // private Card card;
+  private final Card card;
   private final int index;
   private final Player player;
-  private final PawnsBoardVisualView view;
+  private final PawnsBoardVisual view;
 
   /**
    * Creates a new PawnsBoardCardPanel displaying all the information from the given card.
@@ -36,8 +37,8 @@ public class PawnsBoardCardPanel extends JPanel implements PawnsBoardPanel, Mous
    * @param view parent view
    */
   public PawnsBoardCardPanel(Card card, Player player, int x, int y, int width,
-                             int height, int index, PawnsBoardVisualView view) {
-    // this.card = card;
+                             int height, int index, PawnsBoardVisual view) {
+    this.card = card;
     this.player = player;
     this.index = index;
     this.view = view;
@@ -47,36 +48,23 @@ public class PawnsBoardCardPanel extends JPanel implements PawnsBoardPanel, Mous
       this.setBackground(Color.BLUE);
     }
     this.setBounds(x, y, width, height);
-    this.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
     this.setLayout(null);
     this.addMouseListener(this);
-    JLabel cardDescription = new JLabel();
-    cardDescription.setForeground(Color.WHITE);
-    cardDescription.setFont(new Font("Arial", Font.BOLD, 18));
-    cardDescription.setText(String.format("%s, Cost: %s, Value: %s",
-            card.getName(), card.getCost(), card.getValue()));
-    cardDescription.setBounds(0,0, width, height);
-    cardDescription.setVerticalAlignment(JLabel.TOP);
-    this.add(cardDescription);
+  }
 
-    int sizeX = width / 7;
-    int sizeY = height / 9;
-    for (int row = 0; row < 5; row++) {
-      for (int col = 0; col < 5; col++) {
-        JLabel influence = new JLabel();
-        if (row == 2 && col == 2) {
-          influence.setBackground(Color.YELLOW);
-        } else if (card.getInfluence()[row][col]) {
-          influence.setBackground(Color.CYAN);
-        } else {
-          influence.setBackground(Color.DARK_GRAY);
-        }
-        influence.setOpaque(true);
-        influence.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
-        influence.setBounds((col + 1) * sizeX, (row + 2) * sizeY, sizeX, sizeY);
-        this.add(influence);
-      }
+  /**
+   * Paints the card as a single copy of its pre-rendered face, at the scale of the display.
+   * @param g graphics to paint with
+   */
+  @Override
+  protected void paintComponent(Graphics g) {
+    if (getWidth() < 1 || getHeight() < 1) {
+      return;
     }
+    double scale = g instanceof Graphics2D ? ((Graphics2D) g).getTransform().getScaleX() : 1;
+    BufferedImage face = PawnsBoardCardFaces.shared().getFace(card, player, getWidth(),
+            getHeight(), scale > 0 ? scale : 1, Color.CYAN.equals(getBackground()));
+    g.drawImage(face, 0, 0, getWidth(), getHeight(), null);
   }
 
   @Override
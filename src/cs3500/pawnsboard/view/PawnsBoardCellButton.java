@@ -9,7 +9,9 @@ import java.util.Objects;
 import javax.swing.JButton;
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
+import javax.swing.border.Border;
 
+import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.CellReadOnly;
 import cs3500.pawnsboard.model.Player;
 
@@ -19,9 +21,13 @@ import cs3500.pawnsboard.model.Player;
  */
 public class PawnsBoardCellButton extends JButton implements PawnsBoardButton, ActionListener {
 
+  private static final Font FONT = new Font("Arial", Font.BOLD, 18);
+  private static final Border BORDER = BorderFactory.createLineBorder(Color.BLACK, 2);
+
   private final int row;
   private final int col;
-  private final CellReadOnly cell;
+  private final Color emptyForeground;
+  private CellReadOnly cell;
   private PawnsBoardVisualView view;
 
   /**
@@ -36,14 +42,38 @@ public class PawnsBoardCellButton extends JButton implements PawnsBoardButton, A
   public PawnsBoardCellButton(int row, int col, CellReadOnly cell, PawnsBoardVisualView view) {
     this.row = row;
     this.col = col;
-    this.cell = cell;
     this.view = view;
-    this.setFont(new Font("Arial", Font.BOLD, 18));
+    this.emptyForeground = this.getForeground();
+    this.setFont(FONT);
     this.setOpaque(true);
     this.setHorizontalAlignment(JLabel.CENTER);
-    this.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
+    this.setBorder(BORDER);
     this.setFocusable(false);
     this.addActionListener(this);
+    this.setCell(cell);
+  }
+
+  /**
+   * Returns whether this button already shows a cell with the given owner, pawns, and card, so
+   * that it need not be repainted.
+   * @param owner owner of the cell
+   * @param pawns pawns in the cell
+   * @param card card in the cell
+   * @return true if this button shows the same cell
+   */
+  boolean shows(Player owner, int pawns, Card card) {
+    return cell.getOwner() == owner && cell.getPawns() == pawns
+            && Objects.equals(cell.getCard(), card);
+  }
+
+  /**
+   * Shows the given cell on this button in place of the one it showed.
+   * @param cell cell
+   */
+  void setCell(CellReadOnly cell) {
+    this.cell = cell;
+    this.setForeground(emptyForeground);
+    this.setText("");
     if (Objects.isNull(this.cell.getOwner())) {
       this.setBackground(Color.GRAY);
     } else if (this.cell.getOwner().equals(Player.RED)) {
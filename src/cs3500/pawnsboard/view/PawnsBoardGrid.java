@@ -0,0 +1,340 @@
+package cs3500.pawnsboard.view;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.swing.JComponent;
+
+import cs3500.pawnsboard.model.BoardSnapshot;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.CellReadOnly;
+import cs3500.pawnsboard.model.PawnsBoardChange;
+import cs3500.pawnsboard.model.PawnsBoardReadOnly;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * A single component that paints a whole PawnsBoard board, the red row scores on its left and the
+ * blue row scores on its right, in place of a button per cell and a label per score.
+ * It keeps a copy of what it shows, so each update repaints only the cells and scores that
+ * changed, and each paint only draws the cells within the area being repainted.
+ * Clicks are mapped from mouse coordinates to the cell under them, and passed to the view.
+ */
+public class PawnsBoardGrid extends JComponent {
+
+  private static final Font FONT = new Font("Arial", Font.BOLD, 18);
+  private static final int NO_CARD = -1;
+  private static final int NO_OWNER = -1;
+
+  private final PawnsBoardReadOnly model;
+  private final PawnsBoardVisual view;
+  private final int rows;
+  private final int cols;
+  // What each cell shows: the owner's ordinal, the pawns, and the card's value
+  private final int[][] owners;
+  private final int[][] pawns;
+  private final int[][] values;
+  private final int[][] rowScores;
+  private String[] labels = new String[0];
+  private int selectedRow = -1;
+  private int selectedCol = -1;
+  private Font font;
+  private FontMetrics metrics;
+
+  /**
+   * Creates a new PawnsBoardGrid showing the given model's board, passing chosen cells to the
+   * given view.
+   * @param model model
+   * @param view parent view
+   * @throws IllegalArgumentException when the model is null
+   */
+  public PawnsBoardGrid(PawnsBoardReadOnly model, PawnsBoardVisual view) {
+    if (Objects.isNull(model)) {
+      throw new IllegalArgumentException("Invalid Model");
+    }
+    this.model = model;
+    this.view = view;
+    this.rows = model.getRows();
+    this.cols = model.getCols();
+    this.owners = new int[rows][cols];
+    this.pawns = new int[rows][cols];
+    this.values = new int[rows][cols];
+    this.rowScores = new int[Player.values().length][rows];
+    this.setOpaque(true);
+    this.addMouseListener(new MouseAdapter() {
+      @Override
+      public void mouseClicked(MouseEvent e) {
+        PawnsBoardButton cell = getCellAt(e.getX(), e.getY());
+        if (!Objects.isNull(cell)) {
+          System.out.println("Row: " + cell.getRow() + ", Col: " + cell.getCol());
+          if (!Objects.isNull(PawnsBoardGrid.this.view)) {
+            PawnsBoardGrid.this.view.setLastChosenCell(cell);
+          }
+        }
+      }
+    });
+    for (int[] row : owners) {
+      Arrays.fill(row, Integer.MIN_VALUE);
+    }
+    update();
+  }
+
+  /**
+   * Brings the grid up to date with the model, repainting only the cells and row scores that
+   * changed since the last update.
+   */
+  public void update() {
+    BoardSnapshot board = model.getBoardSnapshot();
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        showCell(board, row, col);
+      }
+      showRowScores(row);
+    }
+  }
+
+  /**
+   * Brings only the cells and row scores the given change names up to date with the model.
+   * @param change what a move changed
+   */
+  public void update(PawnsBoardChange change) {
+    BoardSnapshot board = model.getBoardSnapshot();
+    for (int i = 0; i < change.getChangedCellCount(); i++) {
+      showCell(board, change.getChangedRow(i), change.getChangedCol(i));
+    }
+    if (!change.isPass()) {
+      showRowScores(change.getPlacedRow());
+    }
+  }
+
+  // Copies the model's cell, repainting it if it differs from what is shown
+  private void showCell(BoardSnapshot board, int row, int col) {
+    Player owner = board.getOwner(row, col);
+    Card card = board.getCard(row, col);
+    int cellPawns = board.getPawns(row, col);
+    int ownerId = Objects.isNull(owner) ? NO_OWNER : owner.ordinal();
+    int value = Objects.isNull(card) ? NO_CARD : card.getValue();
+    if (owners[row][col] != ownerId || pawns[row][col] != cellPawns
+            || values[row][col] != value) {
+      owners[row][col] = ownerId;
+      pawns[row][col] = cellPawns;
+      values[row][col] = value;
+      repaintCell(row, col + 1);
+    }
+  }
+
+  // Copies both players' scores for a row, repainting those that changed
+  private void showRowScores(int row) {
+    for (Player player : Player.values()) {
+      int score = model.getRowScore(player, row);
+      if (rowScores[player.ordinal()][row] != score) {
+        rowScores[player.ordinal()][row] = score;
+        repaintCell(row, player == Player.RED ? 0 : cols + 1);
+      }
+    }
+  }
+
+  /**
+   * Returns the board cell at the given point of this component, or null if the point is over a
+   * row score or outside the board.
+   * @param x x position
+   * @param y y position
+   * @return the cell at the point, or null
+   */
+  public PawnsBoardButton getCellAt(int x, int y) {
+    int cellSizeX = cellSizeX();
+    int cellSizeY = cellSizeY();
+    if (x < 0 || y < 0 || cellSizeX == 0 || cellSizeY == 0) {
+      return null;
+    }
+    int row = y / cellSizeY;
+    int col = x / cellSizeX - 1;
+    if (row >= rows || col < 0 || col >= cols) {
+      return null;
+    }
+    return new GridCell(row, col, model.getCellAt(row, col));
+  }
+
+  /**
+   * Highlights the given cell as chosen, or no cell if it is null.
+   * @param cell chosen cell
+   */
+  void setSelected(PawnsBoardButton cell) {
+    if (selectedRow >= 0) {
+      repaintCell(selectedRow, selectedCol + 1);
+    }
+    selectedRow = Objects.isNull(cell) ? -1 : cell.getRow();
+    selectedCol = Objects.isNull(cell) ? -1 : cell.getCol();
+    if (selectedRow >= 0) {
+      repaintCell(selectedRow, selectedCol + 1);
+    }
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    int cellSizeX = cellSizeX();
+    int cellSizeY = cellSizeY();
+    Rectangle clip = g.getClipBounds();
+    if (Objects.isNull(clip)) {
+      clip = new Rectangle(0, 0, getWidth(), getHeight());
+    }
+    g.setColor(Color.WHITE);
+    g.fillRect(clip.x, clip.y, clip.width, clip.height);
+    if (cellSizeX == 0 || cellSizeY == 0) {
+      return;
+    }
+    useFont(g, cellSizeY);
+
+    //Only visit the cells that meet the area being repainted
+    int firstRow = Math.max(0, clip.y / cellSizeY);
+    int lastRow = Math.min(rows - 1, (clip.y + clip.height - 1) / cellSizeY);
+    int firstCol = Math.max(0, clip.x / cellSizeX);
+    int lastCol = Math.min(cols + 1, (clip.x + clip.width - 1) / cellSizeX);
+    for (int row = firstRow; row <= lastRow; row++) {
+      int y = row * cellSizeY;
+      for (int col = firstCol; col <= lastCol; col++) {
+        int x = col * cellSizeX;
+        if (col == 0 || col == cols + 1) {
+          int score = rowScores[col == 0 ? Player.RED.ordinal() : Player.BLUE.ordinal()][row];
+          paintCell(g, x, y, cellSizeX, cellSizeY, Color.WHITE, Color.BLACK, label(score));
+        } else {
+          paintBoardCell(g, row, col - 1, x, y, cellSizeX, cellSizeY);
+        }
+      }
+    }
+  }
+
+  // Paints the board cell at the given row and column with its colors and text
+  private void paintBoardCell(Graphics g, int row, int col, int x, int y, int w, int h) {
+    int owner = owners[row][col];
+    Color ownerColor = owner == Player.RED.ordinal() ? Color.RED
+            : owner == Player.BLUE.ordinal() ? Color.BLUE : Color.GRAY;
+    Color background;
+    Color foreground;
+    String text;
+    if (values[row][col] != NO_CARD) {
+      background = ownerColor;
+      foreground = Color.WHITE;
+      text = label(values[row][col]);
+    } else if (pawns[row][col] != 0) {
+      background = Color.GRAY;
+      foreground = ownerColor;
+      text = label(pawns[row][col]);
+    } else {
+      background = Color.GRAY;
+      foreground = Color.BLACK;
+      text = null;
+    }
+    if (row == selectedRow && col == selectedCol) {
+      background = Color.CYAN;
+    }
+    paintCell(g, x, y, w, h, background, foreground, text);
+  }
+
+  // Paints a bordered box with the given colors and text centered in it
+  private void paintCell(Graphics g, int x, int y, int w, int h, Color background,
+                         Color foreground, String text) {
+    g.setColor(background);
+    g.fillRect(x, y, w, h);
+    g.setColor(Color.BLACK);
+    g.drawRect(x, y, w - 1, h - 1);
+    if (w > 8 && h > 8) {
+      g.drawRect(x + 1, y + 1, w - 3, h - 3);
+    }
+    if (!Objects.isNull(text) && !Objects.isNull(metrics)) {
+      g.setColor(foreground);
+      g.drawString(text, x + (w - metrics.stringWidth(text)) / 2,
+              y + (h - metrics.getHeight()) / 2 + metrics.getAscent());
+    }
+  }
+
+  // Sets the font used for text, shrinking it to fit cells of the given height
+  private void useFont(Graphics g, int cellSizeY) {
+    int size = Math.min(FONT.getSize(), cellSizeY * 2 / 3);
+    if (size < 6) {
+      metrics = null;
+      return;
+    }
+    if (Objects.isNull(font) || font.getSize() != size) {
+      font = FONT.deriveFont((float) size);
+      metrics = g.getFontMetrics(font);
+    }
+    g.setFont(font);
+  }
+
+  // Returns the text for a number, reusing the text for numbers shown before
+  private String label(int number) {
+    if (number < 0) {
+      return Integer.toString(number);
+    }
+    if (number >= labels.length) {
+      labels = Arrays.copyOf(labels, Math.max(number + 1, labels.length * 2));
+    }
+    if (Objects.isNull(labels[number])) {
+      labels[number] = Integer.toString(number);
+    }
+    return labels[number];
+  }
+
+  // Marks the box at the given row and column of the grid, counting score columns, as damaged
+  private void repaintCell(int row, int col) {
+    int cellSizeX = cellSizeX();
+    int cellSizeY = cellSizeY();
+    if (cellSizeX > 0 && cellSizeY > 0) {
+      repaint(col * cellSizeX, row * cellSizeY, cellSizeX, cellSizeY);
+    }
+  }
+
+  private int cellSizeX() {
+    return getWidth() / (cols + 2);
+  }
+
+  private int cellSizeY() {
+    return getHeight() / rows;
+  }
+
+  // A cell of the grid, chosen by a click
+  private static final class GridCell implements PawnsBoardButton {
+    private final int row;
+    private final int col;
+    private final CellReadOnly cell;
+
+    private GridCell(int row, int col, CellReadOnly cell) {
+      this.row = row;
+      this.col = col;
+      this.cell = cell;
+    }
+
+    @Override
+    public int getRow() {
+      return row;
+    }
+
+    @Override
+    public int getCol() {
+      return col;
+    }
+
+    @Override
+    public CellReadOnly getCell() {
+      return cell;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof GridCell && ((GridCell) other).row == row
+              && ((GridCell) other).col == col;
+    }
+
+    @Override
+    public int hashCode() {
+      return row * 31 + col;
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package cs3500.pawnsboard.view;
+
+import java.awt.Color;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.swing.JFrame;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsBoardChange;
+import cs3500.pawnsboard.model.PawnsBoardListener;
+import cs3500.pawnsboard.model.PawnsBoardReadOnly;
+import cs3500.pawnsboard.model.Player;
+
+/**
+ * A graphical interface for a game of PawnsBoard which paints the board as a single
+ * PawnsBoardGrid, for boards too large for a button per cell.  The hand is shown as in
+ * PawnsBoardVisualView.
+ */
+public class PawnsBoardPaintedView extends JFrame implements PawnsBoardVisual, PawnsBoardListener,
+        KeyListener {
+
+  private final PawnsBoardReadOnly model;
+  private final PawnsBoardGrid grid;
+  private final List<PawnsBoardCardPanel> cards = new ArrayList<>();
+  private int width;
+  private int height;
+  private PawnsBoardButton lastChosenCell;
+  private PawnsBoardCardPanel lastChosenCard;
+  private Player shownPlayer;
+  private List<Card> shownHand;
+
+  /**
+   * A constructor for PawnsBoardPaintedView, which takes in a game of PawnsBoard in read only.
+   * Sets up the initial board and card.
+   * @param model PawnsBoardReadOnly
+   * @throws IllegalArgumentException when the model is null
+   */
+  public PawnsBoardPaintedView(PawnsBoardReadOnly model) {
+    if (Objects.isNull(model)) {
+      throw new IllegalArgumentException("Invalid Model");
+    }
+    this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+    this.setSize(1280, 720);
+    this.width = this.getWidth();
+    this.height = this.getHeight();
+    this.model = model;
+    this.setLayout(null);
+    this.setTitle(String.format("Player: %s", model.getCurrentTurn()));
+    this.grid = new PawnsBoardGrid(model, this);
+    this.add(grid);
+    layoutBoard();
+    generateCards(model.getCurrentTurn(), model.getHand(model.getCurrentTurn()));
+    this.setVisible(true);
+    this.addKeyListener(this);
+    this.addComponentListener(new ComponentAdapter() {
+      @Override
+      public void componentResized(ComponentEvent e) {
+        if (width != getWidth() || height != getHeight()) {
+          width = getWidth();
+          height = getHeight();
+          layoutBoard();
+          generateCards(shownPlayer, shownHand);
+        }
+      }
+    });
+  }
+
+  /**
+   * Brings the view up to date with the model, repainting only the cells and row scores that
+   * changed, and the hand if it changed.
+   */
+  @Override
+  public void update() {
+    this.setTitle(String.format("Player: %s", model.getCurrentTurn()));
+    grid.update();
+    showHand();
+  }
+
+  /**
+   * Updates only the cells and row scores the given change names, and the hand if it changed, for
+   * when this view is added as a listener to the game it shows.
+   * @param change what a move changed
+   */
+  @Override
+  public void boardChanged(PawnsBoardChange change) {
+    this.setTitle(String.format("Player: %s", change.getCurrentTurn()));
+    grid.update(change);
+    showHand();
+  }
+
+  // Shows the current player's hand, if it is not the hand already shown
+  private void showHand() {
+    Player currentPlayer = model.getCurrentTurn();
+    List<Card> hand = model.getHand(currentPlayer);
+    if (currentPlayer != shownPlayer || !hand.equals(shownHand)) {
+      generateCards(currentPlayer, hand);
+    }
+  }
+
+  /**
+   * Sizes the board to fit the window, leaving room for the hand below it.
+   */
+  private void layoutBoard() {
+    grid.setBounds(0, 0, width, model.getRows() * (height / (model.getRows() + 2)));
+  }
+
+  /**
+   * Replaces the shown hand with the given player's hand.
+   */
+  private void generateCards(Player currentPlayer, List<Card> hand) {
+    for (PawnsBoardCardPanel card : cards) {
+      this.remove(card);
+    }
+    cards.clear();
+    lastChosenCard = null;
+    shownPlayer = currentPlayer;
+    shownHand = hand;
+    if (!hand.isEmpty()) {
+      int cellSizeX = width / hand.size();
+      int cellSizeY = height / (model.getRows() + 2);
+      for (int i = 0; i < hand.size(); i++) {
+        PawnsBoardCardPanel card = new PawnsBoardCardPanel(hand.get(i), currentPlayer,
+                i * cellSizeX, model.getRows() * cellSizeY,
+                cellSizeX, cellSizeY * 2, i, this);
+        cards.add(card);
+        this.add(card);
+      }
+    }
+    this.getContentPane().revalidate();
+    int top = model.getRows() * (height / (model.getRows() + 2));
+    this.getContentPane().repaint(0, top, width, height - top);
+  }
+
+  @Override
+  public PawnsBoardReadOnly getModel() {
+    return model;
+  }
+
+  @Override
+  public void setLastChosenCell(PawnsBoardButton cell) {
+    if (Objects.isNull(cell) || cell.equals(lastChosenCell)) {
+      lastChosenCell = null;
+    } else {
+      lastChosenCell = cell;
+    }
+    grid.setSelected(lastChosenCell);
+  }
+
+  @Override
+  public void setLastChosenCard(PawnsBoardCardPanel card) {
+    if (!Objects.isNull(lastChosenCard)) {
+      if (lastChosenCard.getPlayer().equals(Player.RED)) {
+        lastChosenCard.setBackground(Color.RED);
+      } else {
+        lastChosenCard.setBackground(Color.BLUE);
+      }
+    }
+    if (Objects.isNull(lastChosenCard) || !lastChosenCard.equals(card)) {
+      lastChosenCard = card;
+    } else {
+      lastChosenCard = null;
+    }
+  }
+
+  @Override
+  public PawnsBoardButton getLastChosenCell() {
+    return lastChosenCell;
+  }
+
+  @Override
+  public PawnsBoardCardPanel getLastChosenCard() {
+    return lastChosenCard;
+  }
+
+  @Override
+  public void keyTyped(KeyEvent e) {
+    // Placeholder
+  }
+
+  @Override
+  public void keyPressed(KeyEvent e) {
+    if (e.getKeyCode() == KeyEvent.VK_ENTER) {
+      System.out.println("Confirm");
+    } else if (e.getKeyCode() == KeyEvent.VK_SPACE) {
+      System.out.println("Pass");
+    }
+  }
+
+  @Override
+  public void keyReleased(KeyEvent e) {
+    // Placeholder
+  }
+}
@@ -1,12 +1,19 @@
 package cs3500.pawnsboard.view;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
+import cs3500.pawnsboard.model.BoardSnapshot;
+import cs3500.pawnsboard.model.PawnsBoard;
 import cs3500.pawnsboard.model.PawnsBoardReadOnly;
 import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.Move;
 
 /**
  * PawnsBoardTextualView displays a game of PawnsBoard.
+ * The board can be written straight to any Appendable, such as a Writer, one board at a time or
+ * for every position of a game's moves.
  */
 public class PawnsBoardTextualView implements PawnsBoardView {
 
@@ -48,25 +55,75 @@ public class PawnsBoardTextualView implements PawnsBoardView {
    */
   @Override
   public String toString() {
-    String output = "";
-    for (int row = 0; row < model.getRows(); row++) {
-      output = String.format(output + "%s ", model.getRowScore(Player.RED, row));
-      for (int col = 0; col < model.getCols(); col++) {
-        if (Objects.isNull(model.getCellAt(row, col).getOwner())) {
-          output = String.format(output + "%s", "_");
-        } else if (!Objects.isNull(model.getCellAt(row, col).getCard())) {
-          if (model.getCellAt(row, col).getOwner() == Player.RED) {
-            output = String.format(output + "%s", "R");
-          }
-          if (model.getCellAt(row, col).getOwner() == Player.BLUE) {
-            output = String.format(output + "%s", "B");
-          }
+    StringBuilder output = new StringBuilder(model.getRows() * (model.getCols() + 8));
+    try {
+      render(output);
+    } catch (IOException e) {
+      throw new IllegalStateException("StringBuilder cannot fail to append");
+    }
+    return output.toString();
+  }
+
+  /**
+   * Writes the textual representation of the current board, as given by toString, to the given
+   * output in a single pass, reading each cell only once from a snapshot of the board.
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written to
+   * @throws IllegalArgumentException if out is null
+   */
+  public void render(Appendable out) throws IOException {
+    if (Objects.isNull(out)) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    BoardSnapshot board = model.getBoardSnapshot();
+    int rows = model.getRows();
+    int cols = model.getCols();
+    for (int row = 0; row < rows; row++) {
+      out.append(Integer.toString(model.getRowScore(Player.RED, row))).append(' ');
+      for (int col = 0; col < cols; col++) {
+        Player owner = board.getOwner(row, col);
+        int pawns = board.getPawns(row, col);
+        if (Objects.isNull(owner)) {
+          out.append('_');
+        } else if (!Objects.isNull(board.getCard(row, col))) {
+          out.append(owner == Player.RED ? 'R' : 'B');
+        } else if (pawns < 10) {
+          out.append((char) ('0' + pawns));
         } else {
-          output = String.format(output + "%s", model.getCellAt(row, col).getPawns());
+          out.append(Integer.toString(pawns));
         }
       }
-      output = String.format(output + " %s\n", model.getRowScore(Player.BLUE, row));
+      out.append(' ').append(Integer.toString(model.getRowScore(Player.BLUE, row))).append('\n');
+    }
+  }
+
+  /**
+   * Plays the given moves on the given game in order, writing the board before the first move and
+   * after every move to the given output, with a blank line between boards.  A null move is a pass.
+   * Use a buffered output when writing to a file or stream.
+   * @param game the started game to play the moves on
+   * @param moves the moves to play
+   * @param out the output to write to
+   * @throws IOException if the output cannot be written to
+   * @throws IllegalArgumentException if game, moves, or out is null
+   *                                  if a move is invalid
+   * @throws IllegalStateException if the game is not in progress
+   */
+  public static void renderGame(PawnsBoard game, List<Move> moves, Appendable out)
+          throws IOException {
+    if (Objects.isNull(game) || Objects.isNull(moves) || Objects.isNull(out)) {
+      throw new IllegalArgumentException("Game, moves and output cannot be null");
+    }
+    PawnsBoardTextualView view = new PawnsBoardTextualView(game);
+    view.render(out);
+    for (Move move : moves) {
+      if (Objects.isNull(move)) {
+        game.skipTurn();
+      } else {
+        game.placeCard(move.row, move.col, move.handIndex);
+      }
+      out.append('\n');
+      view.render(out);
     }
-    return output;
   }
 }
@@ -8,9 +8,10 @@ public interface PawnsBoardVisual extends PawnsBoardView {
 
   /**
    * Sets the last cell chosen by the user with the given cell.
+   * Choosing the last chosen cell again, or null, clears the choice.
    * @param cell last chosen cell
    */
-  void setLastChosenCell(PawnsBoardCellButton cell);
+  void setLastChosenCell(PawnsBoardButton cell);
 
   /**
    * Sets the last card chosen by the user with the given card.
@@ -22,7 +23,7 @@ public interface PawnsBoardVisual extends PawnsBoardView {
    * Gets the last cell chosen by the user.
    * @return lastChosenCell
    */
-  PawnsBoardCellButton getLastChosenCell();
+  PawnsBoardButton getLastChosenCell();
 
   /**
    * Gets the last card chosen by the user.
@@ -6,27 +6,44 @@ import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.BorderFactory;
+import javax.swing.border.Border;
 
 import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.BoardSnapshot;
+import cs3500.pawnsboard.model.PawnsBoardChange;
+import cs3500.pawnsboard.model.PawnsBoardListener;
 import cs3500.pawnsboard.model.PawnsBoardReadOnly;
 import cs3500.pawnsboard.model.Player;
 
 /**
  * A simple graphical interface for a game of PawnsBoard.
+ * The board's components are built once and kept, and each update only changes those whose
+ * cell, row score or hand differs from what they show.  Added as a listener to the game, the view
+ * only looks at what each move changed.
  */
-public class PawnsBoardVisualView extends JFrame implements PawnsBoardVisual, KeyListener {
+public class PawnsBoardVisualView extends JFrame implements PawnsBoardVisual, PawnsBoardListener,
+        KeyListener {
+
+  private static final Font SCORE_FONT = new Font("Arial", Font.BOLD, 18);
+  private static final Border SCORE_BORDER = BorderFactory.createLineBorder(Color.BLACK, 2);
 
   PawnsBoardReadOnly model;
   private int width;
   private int height;
   private PawnsBoardCellButton lastChosenCell;
   private PawnsBoardCardPanel lastChosenCard;
+  private PawnsBoardCellButton[][] cells;
+  private JLabel[][] rowScores;
+  private final List<PawnsBoardCardPanel> cards = new ArrayList<>();
+  private Player shownPlayer;
+  private List<Card> shownHand;
 
   /**
    * A constructor for PawnsBoardVisualView, which takes in a game of PawnsBoard in read only.
@@ -46,91 +63,177 @@ public class PawnsBoardVisualView extends JFrame implements PawnsBoardVisual, Ke
     this.model = model;
     this.setLayout(null);
     //this.setResizable(false);
+    this.setTitle(String.format("Player: %s", model.getCurrentTurn()));
+    lastChosenCell = null;
+    lastChosenCard = null;
+    generateBoard();
+    generateCards(model.getCurrentTurn(), model.getHand(model.getCurrentTurn()));
     this.setVisible(true);
     this.addKeyListener(this);
     this.addComponentListener(new ComponentAdapter() {
       @Override
       public void componentResized(ComponentEvent e) {
-        width = getWidth();
-        height = getHeight();
-        update();
+        if (width != getWidth() || height != getHeight()) {
+          width = getWidth();
+          height = getHeight();
+          layoutBoard();
+          generateCards(shownPlayer, shownHand);
+        }
       }
     });
-    this.setTitle(String.format("Player: %s", model.getCurrentTurn()));
-    lastChosenCell = null;
-    lastChosenCard = null;
-    generateBoard();
-    generateCards();
   }
 
+  /**
+   * Brings the view up to date with the model, keeping every component and repainting only the
+   * cells, row scores and hand whose contents changed since the last update.
+   */
   @Override
   public void update() {
     //Update the title
     this.setTitle(String.format("Player: %s", model.getCurrentTurn()));
 
-    //Remove Previous Board
-    this.getContentPane().removeAll();
+    //Update the cells and row scores that changed
+    BoardSnapshot board = model.getBoardSnapshot();
+    for (int row = 0; row < cells.length; row++) {
+      for (int col = 0; col < cells[row].length; col++) {
+        showCell(board, row, col);
+      }
+      showRowScores(row);
+    }
 
-    //Get New Board
-    this.generateBoard();
-    this.generateCards();
+    //Replace the hand only if it changed
+    showHand();
+  }
 
-    //Update JFrame to Display Changes
-    this.repaint();
-    this.revalidate();
+  /**
+   * Updates only the cells, row scores and hand the given change names, for when this view is
+   * added as a listener to the game it shows.
+   * @param change what a move changed
+   */
+  @Override
+  public void boardChanged(PawnsBoardChange change) {
+    this.setTitle(String.format("Player: %s", change.getCurrentTurn()));
+    BoardSnapshot board = model.getBoardSnapshot();
+    for (int i = 0; i < change.getChangedCellCount(); i++) {
+      showCell(board, change.getChangedRow(i), change.getChangedCol(i));
+    }
+    if (!change.isPass()) {
+      showRowScores(change.getPlacedRow());
+    }
+    showHand();
+  }
+
+  // Shows the model's cell on its button, if the button shows something else
+  private void showCell(BoardSnapshot board, int row, int col) {
+    PawnsBoardCellButton button = cells[row][col];
+    if (!button.shows(board.getOwner(row, col), board.getPawns(row, col),
+            board.getCard(row, col))) {
+      button.setCell(model.getCellAt(row, col));
+      if (button == lastChosenCell) {
+        button.setBackground(Color.CYAN);
+      }
+    }
+  }
+
+  // Shows both players' scores for a row, changing only the labels whose score changed
+  private void showRowScores(int row) {
+    for (Player player : Player.values()) {
+      String value = String.format("%s", model.getRowScore(player, row));
+      JLabel rowScore = rowScores[player.ordinal()][row];
+      if (!value.equals(rowScore.getText())) {
+        rowScore.setText(value);
+      }
+    }
+  }
+
+  // Shows the current player's hand, if it is not the hand already shown
+  private void showHand() {
+    Player currentPlayer = model.getCurrentTurn();
+    List<Card> hand = model.getHand(currentPlayer);
+    if (currentPlayer != shownPlayer || !hand.equals(shownHand)) {
+      generateCards(currentPlayer, hand);
+    }
   }
 
   /**
-   * Generates a board, taking in the current state of the model.
+   * Generates the board's cells and row scores, taking in the current state of the model.
    */
   private void generateBoard() {
     int numRow = model.getRows();
     int numCol = model.getCols();
-
-    int cellSizeX = width / (numCol + 2);
-    int cellSizeY = height / (numRow + 2);
+    cells = new PawnsBoardCellButton[numRow][numCol];
+    rowScores = new JLabel[Player.values().length][numRow];
 
     for (int row = 0; row < numRow; row++) {
-      JLabel rowScore = new JLabel();
-      String value = String.format("%s", model.getRowScore(Player.RED, row));
-      rowScore.setFont(new Font("Arial", Font.BOLD, 18));
-      rowScore.setText(value);
-      rowScore.setBackground(Color.WHITE);
-      rowScore.setOpaque(true);
-      rowScore.setHorizontalAlignment(JLabel.CENTER);
-      rowScore.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
-      rowScore.setBounds(0, row * cellSizeY, cellSizeX, cellSizeY);
-      this.add(rowScore);
+      for (Player player : Player.values()) {
+        JLabel rowScore = new JLabel();
+        String value = String.format("%s", model.getRowScore(player, row));
+        rowScore.setFont(SCORE_FONT);
+        rowScore.setText(value);
+        rowScore.setBackground(Color.WHITE);
+        rowScore.setOpaque(true);
+        rowScore.setHorizontalAlignment(JLabel.CENTER);
+        rowScore.setBorder(SCORE_BORDER);
+        rowScores[player.ordinal()][row] = rowScore;
+        this.add(rowScore);
+      }
       for (int col = 0; col < numCol; col++) {
         PawnsBoardCellButton cell = new PawnsBoardCellButton(row, col,
                 model.getCellAt(row, col), this);
-        cell.setBounds((col + 1) * cellSizeX, row * cellSizeY, cellSizeX, cellSizeY);
+        cells[row][col] = cell;
         this.add(cell);
       }
-      rowScore = new JLabel();
-      value = String.format("%s", model.getRowScore(Player.BLUE, row));
-      rowScore.setFont(new Font("Arial", Font.BOLD, 18));
-      rowScore.setText(value);
-      rowScore.setBackground(Color.WHITE);
-      rowScore.setOpaque(true);
-      rowScore.setHorizontalAlignment(JLabel.CENTER);
-      rowScore.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
-      rowScore.setBounds((numCol + 1) * cellSizeX, row * cellSizeY, cellSizeX, cellSizeY);
-      this.add(rowScore);
     }
+    layoutBoard();
   }
 
-  private void generateCards() {
-    Player currentPlayer = model.getCurrentTurn();
-    List<Card> hand = model.getHand(currentPlayer);
-    int cellSizeX = width / hand.size();
-    int cellSizeY = height / (model.getRows() + 2);
-    for (int i = 0; i < hand.size(); i++) {
-      PawnsBoardCardPanel card = new PawnsBoardCardPanel(hand.get(i), currentPlayer,
-              i * cellSizeX, model.getRows() * cellSizeY,
-              cellSizeX, cellSizeY * 2, i, this);
-      this.add(card);
+  /**
+   * Sizes and places the board's cells and row scores to fit the window.
+   */
+  private void layoutBoard() {
+    int numRow = cells.length;
+    int numCol = model.getCols();
+
+    int cellSizeX = width / (numCol + 2);
+    int cellSizeY = height / (numRow + 2);
+
+    for (int row = 0; row < numRow; row++) {
+      rowScores[Player.RED.ordinal()][row].setBounds(0, row * cellSizeY, cellSizeX, cellSizeY);
+      for (int col = 0; col < numCol; col++) {
+        cells[row][col].setBounds((col + 1) * cellSizeX, row * cellSizeY, cellSizeX, cellSizeY);
+      }
+      rowScores[Player.BLUE.ordinal()][row].setBounds((numCol + 1) * cellSizeX, row * cellSizeY,
+              cellSizeX, cellSizeY);
+    }
+  }
+
+  /**
+   * Replaces the shown hand with the given player's hand.
+   */
+  private void generateCards(Player currentPlayer, List<Card> hand) {
+    for (PawnsBoardCardPanel card : cards) {
+      this.remove(card);
     }
+    cards.clear();
+    lastChosenCard = null;
+    shownPlayer = currentPlayer;
+    shownHand = hand;
+    if (!hand.isEmpty()) {
+      int cellSizeX = width / hand.size();
+      int cellSizeY = height / (model.getRows() + 2);
+      for (int i = 0; i < hand.size(); i++) {
+        PawnsBoardCardPanel card = new PawnsBoardCardPanel(hand.get(i), currentPlayer,
+                i * cellSizeX, model.getRows() * cellSizeY,
+                cellSizeX, cellSizeY * 2, i, this);
+        cards.add(card);
+        this.add(card);
+      }
+    }
+
+    //Repaint only the hand's strip of the window
+    this.getContentPane().revalidate();
+    int top = model.getRows() * (height / (model.getRows() + 2));
+    this.getContentPane().repaint(0, top, width, height - top);
   }
 
   @Override
@@ -139,7 +242,9 @@ public class PawnsBoardVisualView extends JFrame implements PawnsBoardVisual, Ke
   }
 
   @Override
-  public void setLastChosenCell(PawnsBoardCellButton cell) {
+  public void setLastChosenCell(PawnsBoardButton chosen) {
+    PawnsBoardCellButton cell = Objects.isNull(chosen) ? null
+            : cells[chosen.getRow()][chosen.getCol()];
     if (Objects.isNull(lastChosenCell)) {
       lastChosenCell = cell;
     } else if (Objects.isNull(cell)) {
@@ -0,0 +1,20 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Random;
+
+/**
+ * Runs every test of PawnsBoardTest against BitboardPawnsBoard.  The tests of undoing and forking
+ * moves, which only PawnsBoardGame supports, still run against PawnsBoardGame.
+ */
+public class BitboardPawnsBoardSuiteTest extends PawnsBoardTest {
+
+  @Override
+  protected PawnsBoard createBoard(int rows, int cols) {
+    return new BitboardPawnsBoard(rows, cols);
+  }
+
+  @Override
+  protected PawnsBoard createBoard(int rows, int cols, Random rand) {
+    return new BitboardPawnsBoard(rows, cols, rand);
+  }
+}
@@ -0,0 +1,158 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.pawnsboard.controller.PawnsCardReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for BitboardPawnsBoard.  Checks it against PawnsBoardGame, which it must match.
+ */
+public class BitboardPawnsBoardTest {
+
+  PawnsBoard bitboard;
+  PawnsBoard game;
+  List<Card> redConfigDeck;
+  List<Card> blueConfigDeck;
+
+  @Before
+  public void setUp() {
+    bitboard = new BitboardPawnsBoard(3, 5);
+    game = new PawnsBoardGame(3, 5);
+    File fileRed = new File("docs" + File.separator + "deckRed.config");
+    File fileBlue = new File("docs" + File.separator + "deckBlue.config");
+    redConfigDeck = PawnsCardReader.readCards(Player.RED, fileRed);
+    blueConfigDeck = PawnsCardReader.readCards(Player.BLUE, fileBlue);
+  }
+
+  private void assertSameBoard(PawnsBoard expected, PawnsBoard actual) {
+    for (int row = 0; row < expected.getRows(); row++) {
+      for (int col = 0; col < expected.getCols(); col++) {
+        Cell expectedCell = expected.getCellAt(row, col);
+        Cell actualCell = actual.getCellAt(row, col);
+        assertEquals(expectedCell.getOwner(), actualCell.getOwner());
+        assertEquals(expectedCell.getPawns(), actualCell.getPawns());
+        assertEquals(expectedCell.getCard(), actualCell.getCard());
+      }
+      assertEquals(expected.getRowScore(Player.RED, row), actual.getRowScore(Player.RED, row));
+      assertEquals(expected.getRowScore(Player.BLUE, row), actual.getRowScore(Player.BLUE, row));
+    }
+    assertEquals(expected.getCurrentTurn(), actual.getCurrentTurn());
+    assertEquals(expected.getPositionHash(), actual.getPositionHash());
+    assertEquals(expected.getHand(Player.RED), actual.getHand(Player.RED));
+    assertEquals(expected.getHand(Player.BLUE), actual.getHand(Player.BLUE));
+  }
+
+  @Test
+  public void testStartGameMatchesPawnsBoardGame() {
+    bitboard.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    assertSameBoard(game, bitboard);
+  }
+
+  @Test
+  public void testFullGameMatchesPawnsBoardGame() {
+    bitboard.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    int[][] moves = {{0, 0, 2}, {0, 4, 0}, {1, 0, 0}, {0, 2, 1}, {1, 1, 0}, {1, 2, 3},
+        {2, 0, 1}, {0, 1, 2}, {2, 2, 2}, {2, 1, 3}, {1, 3, 1}, {0, 3, 4}, {}, {1, 4, 0}, {},
+        {2, 4, 0}, {}, {2, 3, 0}, {}, {}};
+    for (int[] move : moves) {
+      if (move.length == 0) {
+        bitboard.skipTurn();
+        game.skipTurn();
+      } else {
+        bitboard.placeCard(move[0], move[1], move[2]);
+        game.placeCard(move[0], move[1], move[2]);
+      }
+      assertSameBoard(game, bitboard);
+    }
+    assertTrue(bitboard.isGameOver());
+    assertEquals(game.getTotalScore(Player.RED), bitboard.getTotalScore(Player.RED));
+    assertEquals(game.getTotalScore(Player.BLUE), bitboard.getTotalScore(Player.BLUE));
+    assertEquals(game.getWinner(), bitboard.getWinner());
+  }
+
+  @Test
+  public void testPawnsCapAtThree() {
+    boolean[][] influence = new boolean[5][5];
+    influence[2][2] = true;
+    influence[1][2] = true;
+    influence[3][2] = true;
+    influence[2][3] = true;
+    influence[3][1] = true;
+    List<Card> redCards = new ArrayList<>();
+    List<Card> blueCards = new ArrayList<>();
+    for (int i = 0; i < 9; i++) {
+      redCards.add(new PawnsCard("spread" + i, 1, 1, influence));
+      blueCards.add(new PawnsCard("spread" + i, 1, 1, influence));
+    }
+    bitboard = new BitboardPawnsBoard(3, 3);
+    game = new PawnsBoardGame(3, 3);
+    bitboard.startGame(redCards, blueCards, 1, false);
+    game.startGame(redCards, blueCards, 1, false);
+    int[][] moves = {{0, 0}, {2, 0}, {0, 1}};
+    for (int[] move : moves) {
+      bitboard.placeCard(move[0], move[1], 0);
+      game.placeCard(move[0], move[1], 0);
+      bitboard.skipTurn();
+      game.skipTurn();
+    }
+    assertSameBoard(game, bitboard);
+    assertEquals(3, bitboard.getCellAt(1, 0).getPawns());
+    assertEquals(Player.RED, bitboard.getCellAt(0, 2).getOwner());
+  }
+
+  @Test
+  public void testInfluenceAcrossWordBoundary() {
+    // 3 rows of 23 columns puts cells 63 and 64 next to each other in row 2
+    boolean[][] influence = new boolean[5][5];
+    for (int i = 0; i < 5; i++) {
+      influence[2][i] = true;
+    }
+    List<Card> redCards = new ArrayList<>();
+    List<Card> blueCards = new ArrayList<>();
+    for (int i = 0; i < 69; i++) {
+      redCards.add(new PawnsCard("wide" + i, 1, 1, influence));
+      blueCards.add(new PawnsCard("wide" + i, 1, 1, influence));
+    }
+    bitboard = new BitboardPawnsBoard(3, 23);
+    game = new PawnsBoardGame(3, 23);
+    bitboard.startGame(redCards, blueCards, 1, false);
+    game.startGame(redCards, blueCards, 1, false);
+    bitboard.skipTurn();
+    game.skipTurn();
+    bitboard.placeCard(2, 22, 0);
+    game.placeCard(2, 22, 0);
+    bitboard.skipTurn();
+    game.skipTurn();
+    bitboard.placeCard(2, 21, 0);
+    game.placeCard(2, 21, 0);
+    bitboard.skipTurn();
+    game.skipTurn();
+    bitboard.placeCard(2, 19, 0);
+    game.placeCard(2, 19, 0);
+    assertSameBoard(game, bitboard);
+    assertEquals(Player.BLUE, bitboard.getCellAt(2, 17).getOwner());
+    assertNull(bitboard.getCellAt(2, 16).getOwner());
+  }
+
+  @Test
+  public void testPlaceCardThrowsInvalidMove() {
+    bitboard.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    assertThrows(IllegalArgumentException.class, () -> bitboard.placeCard(0, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> bitboard.placeCard(0, 4, 0));
+    assertThrows(IllegalArgumentException.class, () -> bitboard.placeCard(0, 0, 5));
+    assertThrows(IllegalStateException.class,
+        () -> new BitboardPawnsBoard(3, 5).placeCard(0, 0, 0));
+  }
+}
@@ -3,12 +3,24 @@ package cs3500.pawnsboard.model;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import cs3500.pawnsboard.controller.PawnsBinaryDeckReader;
 import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.controller.PawnsDeckCache;
+import cs3500.pawnsboard.controller.PawnsDeckCompiler;
+import cs3500.pawnsboard.controller.PawnsDeckGenerator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Test class for PawnsCardReader.
@@ -93,6 +105,145 @@ public class CardReaderTest {
         () -> PawnsCardReader.readCards(Player.RED, file6));
   }
 
+  @Test
+  public void testReadDecksMatchesReadCards() {
+    File file = new File("docs" + File.separator + "largeDeckRed.config");
+    Map<Player, List<Card>> decks = PawnsCardReader.readDecks(file);
+    assertEquals(PawnsCardReader.readCards(Player.RED, file), decks.get(Player.RED));
+    assertEquals(PawnsCardReader.readCards(Player.BLUE, file), decks.get(Player.BLUE));
+    assertEquals(38, decks.get(Player.RED).size());
+    assertEquals(grabInfluenceBlue(), decks.get(Player.BLUE).get(0).getInfluence());
+    assertThrows(IllegalArgumentException.class, () -> PawnsCardReader.readDecks(null));
+  }
+
+  @Test
+  public void testCardReaderErrorsNameLine() {
+    File file = new File("test" + File.separator + "testDocs"
+            + File.separator + "test5.config");
+    Exception e = assertThrows(IllegalArgumentException.class,
+        () -> PawnsCardReader.readCards(Player.RED, file));
+    assertTrue(e.getMessage().contains("line 3"));
+    File missing = new File("test" + File.separator + "testDocs"
+            + File.separator + "missing.config");
+    assertThrows(IllegalArgumentException.class,
+        () -> PawnsCardReader.readCards(Player.RED, missing));
+  }
+
+  @Test
+  public void testBinaryDeckMatchesConfig() throws IOException {
+    File config = new File("docs" + File.separator + "largeDeckRed.config");
+    File binary = File.createTempFile("largeDeck", ".deck");
+    binary.deleteOnExit();
+    PawnsDeckCompiler.compile(config, binary);
+    List<Card> red = PawnsBinaryDeckReader.readCards(Player.RED, binary);
+    List<Card> blue = PawnsBinaryDeckReader.readCards(Player.BLUE, binary);
+    assertEquals(PawnsCardReader.readCards(Player.RED, config), red);
+    assertEquals(PawnsCardReader.readCards(Player.BLUE, config), blue);
+    assertEquals("Grab", red.get(0).getName());
+    assertEquals(grabInfluenceBlue(), blue.get(0).getInfluence());
+    assertThrows(UnsupportedOperationException.class, () -> red.remove(0));
+    assertEquals(red.get(0), red.get(0));
+    assertEquals(blue.get(1), blue.get(1));
+  }
+
+  @Test
+  public void testBinaryDeckRejectsBadFiles() throws IOException {
+    File config = new File("docs" + File.separator + "deckRed.config");
+    assertThrows(IllegalArgumentException.class,
+        () -> PawnsBinaryDeckReader.readCards(Player.RED, config));
+    assertThrows(IllegalArgumentException.class,
+        () -> PawnsBinaryDeckReader.readCards(null, config));
+    File binary = File.createTempFile("bigValue", ".deck");
+    binary.deleteOnExit();
+    boolean[][] grid = new boolean[5][5];
+    grid[2][2] = true;
+    assertThrows(IllegalArgumentException.class,
+        () -> PawnsDeckCompiler.write(List.of(new PawnsCard("Big", 1, 256, grid)), binary));
+  }
+
+  @Test
+  public void testDeckCacheReadsOnce() throws IOException {
+    File file = File.createTempFile("deck", ".config");
+    file.deleteOnExit();
+    Files.copy(new File("docs" + File.separator + "deckRed.config").toPath(), file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+    PawnsDeckCache cache = new PawnsDeckCache(4);
+    Map<Player, List<Card>> decks = cache.getDecks(file);
+    assertSame(decks, cache.getDecks(file));
+    assertSame(decks.get(Player.BLUE), cache.getDeck(Player.BLUE, file));
+    assertEquals(PawnsCardReader.readCards(Player.BLUE, file), decks.get(Player.BLUE));
+    assertEquals(1, cache.getMisses());
+    assertEquals(2, cache.getHits());
+    assertThrows(UnsupportedOperationException.class, () -> decks.get(Player.RED).clear());
+    assertThrows(IllegalArgumentException.class, () -> cache.getDecks(null));
+    assertThrows(IllegalArgumentException.class, () -> new PawnsDeckCache(0));
+  }
+
+  @Test
+  public void testDeckCacheRereadsChangedFile() throws IOException {
+    File file = File.createTempFile("deck", ".config");
+    file.deleteOnExit();
+    Files.copy(new File("docs" + File.separator + "deckRed.config").toPath(), file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+    PawnsDeckCache cache = new PawnsDeckCache(4);
+    Map<Player, List<Card>> decks = cache.getDecks(file);
+    Files.copy(new File("docs" + File.separator + "largeDeckRed.config").toPath(), file.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+    Map<Player, List<Card>> changed = cache.getDecks(file);
+    assertNotSame(decks, changed);
+    assertEquals(38, changed.get(Player.RED).size());
+    assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  public void testDeckCacheEvictsLeastRecentlyUsed() {
+    PawnsDeckCache cache = new PawnsDeckCache(1);
+    File small = new File("docs" + File.separator + "deckRed.config");
+    File large = new File("docs" + File.separator + "largeDeckRed.config");
+    cache.getDecks(small);
+    cache.getDecks(large);
+    assertEquals(1, cache.size());
+    cache.getDecks(small);
+    assertEquals(3, cache.getMisses());
+    assertEquals(0, cache.getHits());
+  }
+
+  @Test
+  public void testGeneratedDeckIsValid() {
+    List<Card> deck = PawnsDeckGenerator.generate(101, 7);
+    assertEquals(101, deck.size());
+    assertEquals(deck, PawnsDeckGenerator.generate(101, 7));
+    Map<Card, Integer> copies = new HashMap<>();
+    for (Card card : deck) {
+      copies.merge(card, 1, Integer::sum);
+      assertTrue(card.getInfluence()[2][2]);
+    }
+    assertEquals(51, copies.size());
+    assertTrue(copies.values().stream().allMatch(count -> count <= 2));
+    assertThrows(IllegalArgumentException.class, () -> PawnsDeckGenerator.generate(-1, 7));
+  }
+
+  @Test
+  public void testGeneratedDeckRoundTrips() throws IOException {
+    List<Card> deck = PawnsDeckGenerator.generate(40, 3);
+    File config = File.createTempFile("generated", ".config");
+    config.deleteOnExit();
+    PawnsDeckGenerator.writeConfig(deck, config);
+    assertEquals(deck, PawnsCardReader.readCards(Player.RED, config));
+    File binary = File.createTempFile("generated", ".deck");
+    binary.deleteOnExit();
+    PawnsDeckCompiler.write(deck, binary);
+    assertEquals(deck, PawnsBinaryDeckReader.readCards(Player.RED, binary));
+  }
+
+  @Test
+  public void testGeneratedGameFillsLargeBoard() {
+    PawnsBoardGame game = PawnsDeckGenerator.startGame(50, 51, 5, 11);
+    assertEquals(50, game.getRows());
+    assertEquals(5, game.getHand(Player.BLUE).size());
+    assertEquals(Player.RED, game.getCurrentTurn());
+  }
+
   private boolean[][] grabInfluenceRed() {
     boolean[][] grab = new boolean[5][5];
     grab[2][2] = true;
@@ -3,9 +3,13 @@ package cs3500.pawnsboard.model;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -149,4 +153,100 @@ public class CardTest {
     Card cardInfluence = new PawnsCard("test", 1, 1, grid);
     assertNotEquals(card.hashCode(), cardInfluence.hashCode());
   }
+
+  @Test
+  public void testInfluenceMask() {
+    boolean[][] grid = new boolean[5][5];
+    grid[0][1] = true;
+    grid[2][2] = true;
+    card = new PawnsCard("test", 1, 1, grid);
+    assertEquals((1 << 1) | (1 << 12), card.getInfluenceMask());
+    assertEquals((1 << 3) | (1 << 12), card.getMirroredInfluenceMask());
+  }
+
+  @Test
+  public void testOfMatchesConstructor() {
+    boolean[][] grid = new boolean[5][5];
+    grid[4][0] = true;
+    Card built = new PawnsCard("test", 2, 3, grid);
+    Card interned = PawnsCard.of("test", 2, 3, 1 << 20);
+    assertEquals(built, interned);
+    assertEquals(built.hashCode(), interned.hashCode());
+    assertEquals(built.getId(), interned.getId());
+    assertTrue(interned.getInfluence()[4][0]);
+  }
+
+  @Test
+  public void testOfThrowsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> PawnsCard.of(null, 1, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> PawnsCard.of("test", 4, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> PawnsCard.of("test", 1, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> PawnsCard.of("test", 1, 1, 1 << 25));
+  }
+
+  @Test
+  public void testInternReturnsCanonicalCard() {
+    Card interned = PawnsCard.intern(card);
+    assertEquals(card, interned);
+    assertSame(interned, PawnsCard.intern(new PawnsCard("test", 1, 1, new boolean[5][5])));
+    assertSame(interned, PawnsCard.intern(interned));
+    assertThrows(IllegalArgumentException.class, () -> PawnsCard.intern(null));
+  }
+
+  @Test
+  public void testUnusedCanonicalCardsAreDropped() {
+    WeakReference<PawnsCard> unused = new WeakReference<>(PawnsCard.of("unused", 1, 1, 0));
+    for (int i = 0; i < 100 && unused.get() != null; i++) {
+      System.gc();
+    }
+    assertNull(unused.get());
+    Card built = new PawnsCard("unused", 1, 1, new boolean[5][5]);
+    assertEquals(built, PawnsCard.of("unused", 1, 1, 0));
+    assertEquals(PawnsCard.of("unused", 1, 1, 0), built);
+    assertEquals(built.getId(), PawnsCard.of("unused", 1, 1, 0).getId());
+  }
+
+  @Test
+  public void testIdsDifferForDistinctCards() {
+    assertNotEquals(card.getId(), new PawnsCard("other", 1, 1, new boolean[5][5]).getId());
+    assertEquals(card.getId(), new PawnsCard("test", 1, 1, new boolean[5][5]).getId());
+  }
+
+  @Test
+  public void testMirrored() {
+    PawnsCard mirrored = PawnsCard.of("test", 1, 1, 1).mirrored();
+    assertEquals(1 << 4, mirrored.getInfluenceMask());
+    assertEquals(PawnsCard.of("test", 1, 1, 1), mirrored.mirrored());
+  }
+
+  @Test
+  public void testDefaultMasksAndIdMatchInfluence() {
+    boolean[][] grid = new boolean[5][5];
+    grid[0][0] = true;
+    grid[2][3] = true;
+    Card plain = new Card() {
+      @Override
+      public String getName() {
+        return "plain";
+      }
+
+      @Override
+      public int getCost() {
+        return 1;
+      }
+
+      @Override
+      public int getValue() {
+        return 2;
+      }
+
+      @Override
+      public boolean[][] getInfluence() {
+        return grid;
+      }
+    };
+    PawnsCard same = new PawnsCard("plain", 1, 2, grid);
+    assertEquals(same.getInfluenceMask(), plain.getInfluenceMask());
+    assertEquals(same.getMirroredInfluenceMask(), plain.getMirroredInfluenceMask());
+  }
 }
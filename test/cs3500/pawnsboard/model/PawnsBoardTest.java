@@ -9,6 +9,9 @@ import java.util.List;
 import java.util.Random;
 
 import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.controller.PawnsDeckGenerator;
+import cs3500.pawnsboard.model.mocks.MockBoardChecking;
+import cs3500.pawnsboard.model.mocks.MockBoardTranscript;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -29,7 +32,7 @@ public class PawnsBoardTest {
 
   @Before
   public void setUp() {
-    board = new PawnsBoardGame(2, 3);
+    board = createBoard(2, 3);
     boolean[][] testGrid = new boolean[5][5];
     testGrid[2][2] = true;
     Card test1Red = new PawnsCard("test1", 1, 1, testGrid);
@@ -58,30 +61,39 @@ public class PawnsBoardTest {
     blueConfigDeck = PawnsCardReader.readCards(Player.BLUE, fileBlue);
   }
 
+  // Makes the game the tests run against, overridden to run them against other implementations
+  protected PawnsBoard createBoard(int rows, int cols) {
+    return new PawnsBoardGame(rows, cols);
+  }
+
+  protected PawnsBoard createBoard(int rows, int cols, Random rand) {
+    return new PawnsBoardGame(rows, cols, rand);
+  }
+
   @Test
   public void testConstructorThrowsInvalidRowsOrCols() {
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(0, 5));
+        () -> createBoard(0, 5));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 0));
+        () -> createBoard(3, 0));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 2));
+        () -> createBoard(3, 2));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 4));
+        () -> createBoard(3, 4));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(0, 5, new Random()));
+        () -> createBoard(0, 5, new Random()));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 0, new Random()));
+        () -> createBoard(3, 0, new Random()));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 2, new Random()));
+        () -> createBoard(3, 2, new Random()));
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 4, new Random()));
+        () -> createBoard(3, 4, new Random()));
   }
 
   @Test
   public void testConstructThrowsNullRandom() {
     assertThrows(IllegalArgumentException.class,
-        () -> new PawnsBoardGame(3, 5, null));
+        () -> createBoard(3, 5, null));
   }
 
   @Test
@@ -98,7 +110,7 @@ public class PawnsBoardTest {
 
   @Test
   public void testStartGameCardReaderWorks() {
-    board = new PawnsBoardGame(1, 3);
+    board = createBoard(1, 3);
     board.startGame(redConfigDeck, blueConfigDeck, 1, false);
     assertEquals(Player.RED, board.getCurrentTurn());
     for (int i = 0; i < board.getRows(); i++) {
@@ -159,6 +171,24 @@ public class PawnsBoardTest {
         () -> board.startGame(ogRed, blueCards, 1, false));
   }
 
+  @Test
+  public void testStartGameCountsEqualCardsAsCopies() {
+    boolean[][] testGrid = new boolean[5][5];
+    testGrid[2][2] = true;
+    redCards.add(new PawnsCard("test1", 1, 1, testGrid));
+    assertThrows(IllegalArgumentException.class,
+        () -> board.startGame(redCards, blueCards, 1, false));
+    List<Card> large = PawnsDeckGenerator.generate(2550, 5);
+    List<Card> tooMany = new ArrayList<>(large);
+    tooMany.add(large.get(0));
+    tooMany.add(large.get(0));
+    PawnsBoard largeBoard = createBoard(50, 51);
+    assertThrows(IllegalArgumentException.class,
+        () -> largeBoard.startGame(large, tooMany, 5, false));
+    largeBoard.startGame(large, large, 5, false);
+    assertEquals(5, largeBoard.getHand(Player.RED).size());
+  }
+
   @Test
   public void testStartGameThrowsWhenGameInProgress() {
     board.startGame(redCards, blueCards, 1, false);
@@ -249,6 +279,16 @@ public class PawnsBoardTest {
     assertThrows(IllegalArgumentException.class, () -> board.getHand(null));
   }
 
+  @Test
+  public void testGetHandSizeAndCardMatchHand() {
+    board.startGame(redCards, blueCards, 2, false);
+    assertEquals(2, board.getHandSize(Player.RED));
+    assertEquals(board.getHand(Player.RED).get(1), board.getHandCard(Player.RED, 1));
+    assertEquals(board.getHand(Player.BLUE).get(0), board.getHandCard(Player.BLUE, 0));
+    assertThrows(IllegalArgumentException.class, () -> board.getHandCard(Player.RED, 2));
+    assertThrows(IllegalArgumentException.class, () -> board.getHandSize(null));
+  }
+
   @Test
   public void testGetHandReturnsCopyOfHand() {
     board.startGame(redCards, blueCards, 1, false);
@@ -340,13 +380,29 @@ public class PawnsBoardTest {
 
   @Test
   public void testRandomDrawWorks() {
-    board = new PawnsBoardGame(2, 3, new Random(1));
+    board = createBoard(2, 3, new Random(1));
     board.startGame(redCards, blueCards, 1, true);
     Card firstCard = redCards.get((new Random(1).nextInt(redCards.size())));
     board.placeCard(0, 0, 0);
     assertEquals(firstCard, board.getCellAt(0, 0).getCard());
   }
 
+  @Test
+  public void testRandomDrawReproducibleWithSeed() {
+    PawnsBoard first = createBoard(3, 5, new Random(4));
+    PawnsBoard second = createBoard(3, 5, new Random(4));
+    first.startGame(redConfigDeck, blueConfigDeck, 3, true);
+    second.startGame(redConfigDeck, blueConfigDeck, 3, true);
+    assertEquals(first.getHand(Player.RED), second.getHand(Player.RED));
+    first.placeCard(0, 0, 0);
+    second.placeCard(0, 0, 0);
+    first.skipTurn();
+    second.skipTurn();
+    assertEquals(3, first.getHand(Player.RED).size());
+    assertEquals(first.getHand(Player.RED), second.getHand(Player.RED));
+    assertEquals(first.getHand(Player.BLUE), second.getHand(Player.BLUE));
+  }
+
   @Test
   public void testPlaceCardOnlyWorksWithEnoughPawns() {
     board.startGame(redCards, blueCards, 1, false);
@@ -606,7 +662,7 @@ public class PawnsBoardTest {
 
   @Test
   public void testPlayMultipleMovesWorks() {
-    board = new PawnsBoardGame(3, 5);
+    board = createBoard(3, 5);
     board.startGame(redConfigDeck, blueConfigDeck, 5, false);
     board.placeCard(0, 0, 0);
     // Grab -> (0,1), (0,2) +1 Red pawn (1 total)
@@ -656,7 +712,7 @@ public class PawnsBoardTest {
     left[2][1] = true;
     smallBlue.set(0, new PawnsCard("test", 1, 1, left));
     smallBlue.set(1, new PawnsCard("test", 1, 1, left));
-    board = new PawnsBoardGame(1, 3);
+    board = createBoard(1, 3);
     board.startGame(smallRed, smallBlue, 1, false);
     board.skipTurn();
     board.placeCard(0, 2, 0);
@@ -670,4 +726,327 @@ public class PawnsBoardTest {
     assertEquals(3, board.getHand(Player.RED).size());
     assertEquals(0, board.getHand(Player.BLUE).size());
   }
+
+  @Test
+  public void testGetValidMoves() {
+    board.startGame(redCards, blueCards, 2, false);
+    int[] moves = new int[3 * 6 * 2];
+    assertEquals(4, board.getValidMoves(Player.RED, moves));
+    int[] expected = {0, 0, 0, 0, 0, 1, 1, 0, 0, 1, 0, 1};
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], moves[i]);
+    }
+    board.placeCard(0, 0, 0);
+    assertEquals(1, board.getValidMoves(Player.RED, moves));
+    assertEquals(1, moves[0]);
+    assertEquals(4, board.getValidMoves(Player.BLUE, moves));
+    assertEquals(2, moves[1]);
+  }
+
+  @Test
+  public void testGetValidMovesMatchesIsMoveValid() {
+    board = createBoard(3, 5);
+    board.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    board.placeCard(0, 0, 0);
+    board.placeCard(0, 4, 2);
+    board.placeCard(1, 0, 4);
+    int[] moves = new int[3 * 15 * 5];
+    int count = board.getValidMoves(Player.BLUE, moves);
+    int expected = 0;
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        for (int i = 0; i < board.getHand(Player.BLUE).size(); i++) {
+          if (board.isMoveValid(row, col, i, Player.BLUE)) {
+            assertEquals(row, moves[3 * expected]);
+            assertEquals(col, moves[3 * expected + 1]);
+            assertEquals(i, moves[3 * expected + 2]);
+            expected++;
+          }
+        }
+      }
+    }
+    assertEquals(expected, count);
+  }
+
+  @Test
+  public void testGetValidMovesThrows() {
+    assertThrows(IllegalStateException.class,
+        () -> board.getValidMoves(Player.RED, new int[36]));
+    board.startGame(redCards, blueCards, 2, false);
+    assertThrows(IllegalArgumentException.class, () -> board.getValidMoves(null, new int[36]));
+    assertThrows(IllegalArgumentException.class, () -> board.getValidMoves(Player.RED, null));
+    assertThrows(IllegalArgumentException.class,
+        () -> board.getValidMoves(Player.RED, new int[3]));
+  }
+
+  @Test
+  public void testUndoPlaceCardRestoresBoard() {
+    PawnsBoardGame game = new PawnsBoardGame(3, 5);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    game.placeCard(0, 0, 0);
+    game.placeCard(0, 4, 2);
+    List<Card> redHand = game.getHand(Player.RED);
+    List<Card> blueHand = game.getHand(Player.BLUE);
+    game.placeCard(1, 0, 4);
+    game.undoMove();
+    assertEquals(Player.RED, game.getCurrentTurn());
+    assertEquals(redHand, game.getHand(Player.RED));
+    assertEquals(blueHand, game.getHand(Player.BLUE));
+    assertNull(game.getCellAt(1, 0).getCard());
+    assertEquals(1, game.getCellAt(1, 0).getPawns());
+    assertEquals(1, game.getCellAt(0, 1).getPawns());
+    assertEquals(0, game.getCellAt(2, 1).getPawns());
+    assertNull(game.getCellAt(2, 1).getOwner());
+    assertEquals(0, game.getRowScore(Player.RED, 1));
+    game.undoMove();
+    game.undoMove();
+    assertEquals(Player.RED, game.getCellAt(0, 0).getOwner());
+    assertEquals(1, game.getCellAt(0, 0).getPawns());
+    assertEquals(Player.BLUE, game.getCellAt(0, 4).getOwner());
+    assertNull(game.getCellAt(0, 1).getOwner());
+    assertEquals(redConfigDeck.subList(0, 5), game.getHand(Player.RED));
+    assertFalse(game.canUndo());
+  }
+
+  @Test
+  public void testUndoReturnsDrawnCardToDeck() {
+    PawnsBoardGame game = new PawnsBoardGame(2, 3);
+    game.startGame(redCards, blueCards, 1, false);
+    game.skipTurn();
+    game.skipTurn();
+    assertEquals(2, game.getHand(Player.RED).size());
+    game.undoMove();
+    assertEquals(1, game.getHand(Player.RED).size());
+    game.skipTurn();
+    assertEquals(redCards.subList(0, 2), game.getHand(Player.RED));
+  }
+
+  @Test
+  public void testUndoSkipRestoresGameOver() {
+    PawnsBoardGame game = new PawnsBoardGame(2, 3);
+    game.startGame(redCards, blueCards, 1, false);
+    game.skipTurn();
+    game.skipTurn();
+    assertTrue(game.isGameOver());
+    game.undoMove();
+    assertFalse(game.isGameOver());
+    assertEquals(Player.BLUE, game.getCurrentTurn());
+    game.placeCard(0, 2, 0);
+    assertFalse(game.isGameOver());
+  }
+
+  @Test
+  public void testUndoThrows() {
+    PawnsBoardGame game = new PawnsBoardGame(2, 3);
+    assertThrows(IllegalStateException.class, game::undoMove);
+    assertThrows(IllegalStateException.class, game::canUndo);
+    game.startGame(redCards, blueCards, 1, false);
+    assertThrows(IllegalStateException.class, game::undoMove);
+  }
+
+  @Test
+  public void testPositionHashMatchesForTransposedMoves() {
+    PawnsBoardGame first = new PawnsBoardGame(2, 3);
+    PawnsBoardGame second = new PawnsBoardGame(2, 3);
+    first.startGame(redCards, blueCards, 2, false);
+    second.startGame(redCards, blueCards, 2, false);
+    first.placeCard(0, 0, 0);
+    first.skipTurn();
+    first.placeCard(1, 0, 0);
+    second.placeCard(1, 0, 0);
+    second.skipTurn();
+    second.placeCard(0, 0, 0);
+    assertEquals(first.getPositionHash(), second.getPositionHash());
+  }
+
+  @Test
+  public void testPositionHashChangesWithMovesAndRestoresOnUndo() {
+    PawnsBoardGame game = new PawnsBoardGame(3, 5);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    long start = game.getPositionHash();
+    game.placeCard(0, 0, 0);
+    long afterPlace = game.getPositionHash();
+    assertFalse(start == afterPlace);
+    game.skipTurn();
+    long afterSkip = game.getPositionHash();
+    assertFalse(afterPlace == afterSkip);
+    game.skipTurn();
+    assertTrue(game.isGameOver());
+    assertFalse(afterSkip == game.getPositionHash());
+    game.undoMove();
+    assertEquals(afterSkip, game.getPositionHash());
+    game.undoMove();
+    assertEquals(afterPlace, game.getPositionHash());
+    game.undoMove();
+    assertEquals(start, game.getPositionHash());
+  }
+
+  @Test
+  public void testPositionHashThrowsGameNotStarted() {
+    assertThrows(IllegalStateException.class, () -> board.getPositionHash());
+  }
+
+  @Test
+  public void testForkIsIndependent() {
+    PawnsBoardGame game = new PawnsBoardGame(3, 5);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    game.placeCard(0, 0, 0);
+    SearchablePawnsBoard fork = game.fork();
+    assertEquals(game.getPositionHash(), fork.getPositionHash());
+    assertFalse(fork.canUndo());
+    fork.placeCard(0, 4, 2);
+    assertEquals(Player.BLUE, game.getCurrentTurn());
+    assertNull(game.getCellAt(0, 4).getCard());
+    assertEquals(5, game.getHand(Player.BLUE).size());
+    game.placeCard(1, 4, 0);
+    assertNull(fork.getCellAt(1, 4).getCard());
+    assertEquals(Player.BLUE, fork.getCellAt(0, 4).getOwner());
+    assertEquals(redConfigDeck.get(0), fork.getCellAt(0, 0).getCard());
+  }
+
+  @Test
+  public void testForkMatchesReplayedGame() {
+    PawnsBoardGame game = new PawnsBoardGame(3, 5);
+    PawnsBoardGame replay = new PawnsBoardGame(3, 5);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    replay.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    game.placeCard(0, 0, 0);
+    replay.placeCard(0, 0, 0);
+    SearchablePawnsBoard fork = game.fork(new Random(1));
+    fork.placeCard(0, 4, 2);
+    replay.placeCard(0, 4, 2);
+    fork.placeCard(1, 0, 4);
+    replay.placeCard(1, 0, 4);
+    assertEquals(replay.getPositionHash(), fork.getPositionHash());
+    assertEquals(replay.getHand(Player.RED), fork.getHand(Player.RED));
+    assertEquals(replay.getRowScore(Player.RED, 1), fork.getRowScore(Player.RED, 1));
+    fork.undoMove();
+    assertEquals(Player.RED, fork.getCurrentTurn());
+  }
+
+  @Test
+  public void testForkThrows() {
+    PawnsBoardGame game = new PawnsBoardGame(2, 3);
+    assertThrows(IllegalStateException.class, game::fork);
+    game.startGame(redCards, blueCards, 1, false);
+    assertThrows(IllegalArgumentException.class, () -> game.fork(null));
+  }
+
+  @Test
+  public void testListenerToldWhatEachMoveChanged() {
+    PawnsBoardGame game = new PawnsBoardGame(3, 5);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    List<PawnsBoardChange> changes = new ArrayList<>();
+    PawnsBoardListener listener = changes::add;
+    game.addListener(listener);
+    Card grab = game.getHand(Player.RED).get(0);
+    game.placeCard(0, 0, 0);
+    PawnsBoardChange placed = changes.get(0);
+    assertEquals(Player.RED, placed.getMover());
+    assertFalse(placed.isPass());
+    assertFalse(placed.isUndo());
+    assertEquals(0, placed.getPlacedRow());
+    assertEquals(0, placed.getPlacedCol());
+    assertEquals(grab, placed.getPlacedCard());
+    assertNull(placed.getDrawnCard());
+    assertEquals(3, placed.getChangedCellCount());
+    for (int i = 0; i < placed.getChangedCellCount(); i++) {
+      assertEquals(0, placed.getChangedRow(i));
+      assertTrue(placed.getChangedCol(i) <= 2);
+    }
+    assertEquals(Player.BLUE, placed.getCurrentTurn());
+    game.skipTurn();
+    PawnsBoardChange passed = changes.get(1);
+    assertTrue(passed.isPass());
+    assertEquals(-1, passed.getPlacedRow());
+    assertEquals(0, passed.getChangedCellCount());
+    assertEquals(redConfigDeck.get(5), passed.getDrawnCard());
+    game.undoMove();
+    PawnsBoardChange undone = changes.get(2);
+    assertTrue(undone.isUndo());
+    assertEquals(Player.BLUE, undone.getMover());
+    assertEquals(redConfigDeck.get(5), undone.getDrawnCard());
+    game.removeListener(listener);
+    game.skipTurn();
+    assertEquals(3, changes.size());
+    assertThrows(IllegalArgumentException.class, () -> placed.getChangedRow(3));
+    assertThrows(IllegalArgumentException.class, () -> game.addListener(null));
+  }
+
+  @Test
+  public void testBitboardListenerMatchesGame() {
+    PawnsBoardGame game = new PawnsBoardGame(3, 5);
+    BitboardPawnsBoard bitboard = new BitboardPawnsBoard(3, 5);
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    bitboard.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    List<PawnsBoardChange> gameChanges = new ArrayList<>();
+    List<PawnsBoardChange> bitboardChanges = new ArrayList<>();
+    game.addListener(gameChanges::add);
+    bitboard.addListener(bitboardChanges::add);
+    game.placeCard(0, 0, 0);
+    bitboard.placeCard(0, 0, 0);
+    game.placeCard(0, 4, 0);
+    bitboard.placeCard(0, 4, 0);
+    for (int i = 0; i < 2; i++) {
+      PawnsBoardChange expected = gameChanges.get(i);
+      PawnsBoardChange actual = bitboardChanges.get(i);
+      assertEquals(expected.getChangedCellCount(), actual.getChangedCellCount());
+      assertEquals(expected.getPlacedCard(), actual.getPlacedCard());
+      assertEquals(expected.getDrawnCard(), actual.getDrawnCard());
+      assertEquals(expected.getCurrentTurn(), actual.getCurrentTurn());
+    }
+    assertEquals(redConfigDeck.get(5), bitboardChanges.get(1).getDrawnCard());
+  }
+
+  @Test
+  public void testBoardSnapshotReadsCellsUntilGameChanges() {
+    PawnsBoard[] games = {new PawnsBoardGame(3, 5), new BitboardPawnsBoard(3, 5)};
+    for (PawnsBoard game : games) {
+      assertThrows(IllegalStateException.class, game::getBoardSnapshot);
+      game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+      Card grab = game.getHand(Player.RED).get(0);
+      game.placeCard(0, 0, 0);
+      BoardSnapshot snapshot = game.getBoardSnapshot();
+      assertEquals(snapshot, game.getBoardSnapshot());
+      assertEquals(3, snapshot.getRows());
+      assertEquals(5, snapshot.getCols());
+      assertEquals(Player.RED, snapshot.getOwner(0, 0));
+      assertEquals(grab, snapshot.getCard(0, 0));
+      assertEquals(0, snapshot.getPawns(0, 0));
+      assertEquals(1, snapshot.getPawns(0, 1));
+      assertNull(snapshot.getOwner(1, 2));
+      assertNull(snapshot.getCard(1, 2));
+      assertThrows(IllegalArgumentException.class, () -> snapshot.getPawns(3, 0));
+      assertTrue(snapshot.isCurrent());
+      game.skipTurn();
+      assertFalse(snapshot.isCurrent());
+      assertThrows(IllegalStateException.class, () -> snapshot.getOwner(0, 0));
+      assertEquals(Player.RED, game.getBoardSnapshot().getOwner(0, 0));
+    }
+  }
+
+  @Test
+  public void testDefaultBoardSnapshotIsCopyUntilGameChanges() {
+    MockBoardTranscript game = new MockBoardTranscript(new StringBuilder());
+    game.startGame(redConfigDeck, blueConfigDeck, 5, false);
+    BoardSnapshot snapshot = game.getBoardSnapshot();
+    assertTrue(snapshot.isCurrent());
+    assertNull(snapshot.getCard(0, 0));
+    assertEquals(1, snapshot.getPawns(0, 0));
+    game.placeCard(0, 0, 0);
+    assertFalse(snapshot.isCurrent());
+    assertThrows(IllegalStateException.class, () -> snapshot.getPawns(0, 0));
+    assertEquals(Player.RED, game.getBoardSnapshot().getOwner(0, 0));
+  }
+
+  @Test
+  public void testDefaultBoardSnapshotThrowsWithoutBoard() {
+    PawnsBoardReadOnly game = new MockBoardChecking(new StringBuilder()) {
+      @Override
+      public Cell[][] getBoard() {
+        return null;
+      }
+    };
+    assertThrows(IllegalStateException.class, game::getBoardSnapshot);
+  }
 }
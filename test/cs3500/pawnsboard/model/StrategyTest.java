@@ -3,13 +3,21 @@ package cs3500.pawnsboard.model;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.controller.PawnsCardReader;
 import cs3500.pawnsboard.model.mocks.MockBoardChecking;
 import cs3500.pawnsboard.model.mocks.MockBoardOneValid;
 import cs3500.pawnsboard.model.mocks.MockBoardRowScore;
 import cs3500.pawnsboard.model.strategies.Move;
 import cs3500.pawnsboard.model.strategies.PawnsBoardStrategy;
+import cs3500.pawnsboard.model.strategies.StrategyAlphaBeta;
+import cs3500.pawnsboard.model.strategies.StrategyEndgame;
 import cs3500.pawnsboard.model.strategies.StrategyFillFirst;
 import cs3500.pawnsboard.model.strategies.StrategyMaximizeRowScore;
+import cs3500.pawnsboard.model.strategies.StrategyMonteCarlo;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -124,4 +132,274 @@ public class StrategyTest {
     assertFalse(sb.toString().contains("Checked move: 2, 0, 2"));
     assertFalse(sb.toString().contains("Checked move: 2, 2, 0"));
   }
+
+  @Test
+  public void testDefaultValidMovesProbesEveryMove() {
+    model = new MockBoardOneValid(sb);
+    int[] moves = new int[3];
+    assertEquals(1, model.getValidMoves(Player.RED, moves));
+    assertEquals(1, moves[0]);
+    assertEquals(1, moves[1]);
+    assertEquals(1, moves[2]);
+    assertTrue(sb.toString().contains("Checked move: 2, 2, 2"));
+  }
+
+  @Test
+  public void testAlphaBetaRequiresSearchableBoard() {
+    model = new MockBoardChecking(sb);
+    assertThrows(IllegalArgumentException.class,
+        () -> new StrategyAlphaBeta(10).choosePlay(model, Player.RED));
+  }
+
+  @Test
+  public void testAlphaBetaRejectsBadBudget() {
+    assertThrows(IllegalArgumentException.class, () -> new StrategyAlphaBeta(0));
+    assertThrows(IllegalArgumentException.class, () -> new StrategyAlphaBeta(10, 0));
+  }
+
+  @Test
+  public void testAlphaBetaChoosesValidMove() {
+    PawnsBoardGame game = startedGame();
+    StrategyAlphaBeta alphaBeta = new StrategyAlphaBeta(1000, 4);
+    assertThrows(IllegalArgumentException.class, () -> alphaBeta.choosePlay(game, Player.BLUE));
+    long hash = game.getPositionHash();
+    Move move = alphaBeta.choosePlay(game, Player.RED);
+    assertTrue(game.isMoveValid(move.row, move.col, move.handIndex, Player.RED));
+    assertEquals(hash, game.getPositionHash());
+    assertFalse(game.canUndo());
+    assertEquals(4, alphaBeta.getLastDepth());
+    assertTrue(alphaBeta.getLastNodes() > 0);
+    assertTrue(alphaBeta.getLastNodesPerSecond() > 0);
+  }
+
+  @Test
+  public void testAlphaBetaDepthOneTakesBestScore() {
+    PawnsBoardGame game = startedGame();
+    Move move = new StrategyAlphaBeta(1000, 1).choosePlay(game, Player.RED);
+    game.placeCard(move.row, move.col, move.handIndex);
+    int chosen = game.getTotalScore(Player.RED) - game.getTotalScore(Player.BLUE);
+    game.undoMove();
+    int[] moves = new int[3 * game.getRows() * game.getCols() * game.getHand(Player.RED).size()];
+    int count = game.getValidMoves(Player.RED, moves);
+    for (int i = 0; i < count; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      int score = game.getTotalScore(Player.RED) - game.getTotalScore(Player.BLUE);
+      game.undoMove();
+      assertTrue(score <= chosen);
+    }
+  }
+
+  @Test
+  public void testMonteCarloRequiresSearchableBoard() {
+    model = new MockBoardChecking(sb);
+    assertThrows(IllegalArgumentException.class,
+        () -> new StrategyMonteCarlo(10).choosePlay(model, Player.RED));
+  }
+
+  @Test
+  public void testMonteCarloRejectsBadArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new StrategyMonteCarlo(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new StrategyMonteCarlo(10, 0, new Random()));
+    assertThrows(IllegalArgumentException.class, () -> new StrategyMonteCarlo(10, 1, null));
+  }
+
+  @Test
+  public void testMonteCarloChoosesValidMove() {
+    PawnsBoardGame game = startedGame();
+    StrategyMonteCarlo monteCarlo = new StrategyMonteCarlo(50, 2, new Random(1));
+    assertThrows(IllegalArgumentException.class, () -> monteCarlo.choosePlay(game, Player.BLUE));
+    long hash = game.getPositionHash();
+    Move move = monteCarlo.choosePlay(game, Player.RED);
+    assertTrue(game.isMoveValid(move.row, move.col, move.handIndex, Player.RED));
+    assertEquals(hash, game.getPositionHash());
+    assertFalse(game.canUndo());
+    assertTrue(monteCarlo.getLastPlayouts() >= 2);
+  }
+
+  @Test
+  public void testMonteCarloPlaysWholeRandomDrawGame() {
+    PawnsBoardGame game = startedGame(true);
+    StrategyMonteCarlo monteCarlo = new StrategyMonteCarlo(5, 2, new Random(3));
+    while (!game.isGameOver()) {
+      Player turn = game.getCurrentTurn();
+      try {
+        Move move = monteCarlo.choosePlay(game, turn);
+        assertTrue(game.isMoveValid(move.row, move.col, move.handIndex, turn));
+        game.placeCard(move.row, move.col, move.handIndex);
+      } catch (IllegalStateException e) {
+        game.skipTurn();
+      }
+    }
+  }
+
+  @Test
+  public void testMonteCarloInstancesShareWorkers() {
+    PawnsBoardGame game = startedGame();
+    for (int i = 0; i < 20; i++) {
+      new StrategyMonteCarlo(1, 2, new Random(i)).choosePlay(game, Player.RED);
+    }
+    int workers = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals("pawns-monte-carlo")) {
+        workers++;
+      }
+    }
+    // A pool per instance would leave 40 threads behind
+    assertTrue(workers < 20);
+  }
+
+  @Test
+  public void testEndgameRejectsBadArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new StrategyEndgame(null, 4));
+    assertThrows(IllegalArgumentException.class, () -> new StrategyEndgame(fillFirst, 0));
+    assertThrows(IllegalArgumentException.class, () -> new StrategyEndgame(fillFirst, 4, 0));
+  }
+
+  @Test
+  public void testEndgameLeavesOpeningToOtherStrategy() {
+    PawnsBoardGame game = startedGame();
+    StrategyEndgame endgame = new StrategyEndgame(fillFirst, 1);
+    Move move = endgame.choosePlay(game, Player.RED);
+    Move expected = fillFirst.choosePlay(game, Player.RED);
+    assertEquals(expected.row, move.row);
+    assertEquals(expected.col, move.col);
+    assertEquals(expected.handIndex, move.handIndex);
+    assertFalse(endgame.isLastSolved());
+    model = new MockBoardOneValid(sb);
+    move = endgame.choosePlay(model, Player.RED);
+    assertEquals(1, move.row);
+    assertFalse(endgame.isLastSolved());
+  }
+
+  @Test
+  public void testEndgameReachesProvenScore() {
+    PawnsBoardGame game = endgameGame();
+    Player mover = game.getCurrentTurn();
+    StrategyEndgame endgame = new StrategyEndgame(fillFirst, 1000);
+    long hash = game.getPositionHash();
+    Move move = endgame.choosePlay(game, mover);
+    assertTrue(endgame.isLastSolved());
+    assertTrue(endgame.getLastNodes() > 0);
+    assertEquals(hash, game.getPositionHash());
+    int proven = endgame.getLastScore();
+    assertEquals(minimax(game), proven);
+    // With both players solving, the game must end with exactly the proven score
+    while (!game.isGameOver()) {
+      game.placeCard(move.row, move.col, move.handIndex);
+      move = null;
+      while (!game.isGameOver() && move == null) {
+        try {
+          move = endgame.choosePlay(game, game.getCurrentTurn());
+        } catch (IllegalStateException e) {
+          game.skipTurn();
+        }
+      }
+    }
+    Player other = mover == Player.RED ? Player.BLUE : Player.RED;
+    assertEquals(proven, game.getTotalScore(mover) - game.getTotalScore(other));
+  }
+
+  @Test
+  public void testEndgamePassesWhenPassingIsBest() {
+    // After one player passes, the other passing ends the game at its current score, which every
+    // placement here only makes worse for them
+    PawnsBoardGame game = endgameGame(90);
+    game.skipTurn();
+    Player mover = game.getCurrentTurn();
+    Player other = mover == Player.RED ? Player.BLUE : Player.RED;
+    int current = game.getTotalScore(mover) - game.getTotalScore(other);
+    StrategyEndgame endgame = new StrategyEndgame(fillFirst, 1000);
+    assertThrows(IllegalStateException.class, () -> endgame.choosePlay(game, mover));
+    assertTrue(endgame.isLastSolved());
+    assertEquals(current, endgame.getLastScore());
+    int[] moves = new int[3 * game.getRows() * game.getCols() * 16];
+    int count = game.getValidMoves(mover, moves);
+    assertTrue(count > 0);
+    for (int i = 0; i < count; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      assertTrue(-minimax(game) < current);
+      game.undoMove();
+    }
+  }
+
+  @Test
+  public void testEndgameForgetsPositionsBetweenDecisions() {
+    StrategyEndgame reused = new StrategyEndgame(fillFirst, 1000);
+    reused.choosePlay(endgameGame(), endgameGame().getCurrentTurn());
+    PawnsBoardGame game = endgameGame();
+    StrategyEndgame fresh = new StrategyEndgame(fillFirst, 1000);
+    fresh.choosePlay(game, game.getCurrentTurn());
+    reused.choosePlay(game, game.getCurrentTurn());
+    assertEquals(fresh.getLastNodes(), reused.getLastNodes());
+    assertEquals(fresh.getLastScore(), reused.getLastScore());
+  }
+
+  @Test
+  public void testEndgameFallsBackOverNodeLimit() {
+    PawnsBoardGame game = endgameGame();
+    StrategyEndgame endgame = new StrategyEndgame(fillFirst, 1000, 1);
+    Move move = endgame.choosePlay(game, game.getCurrentTurn());
+    Move expected = fillFirst.choosePlay(game, game.getCurrentTurn());
+    assertFalse(endgame.isLastSolved());
+    assertEquals(expected.row, move.row);
+    assertEquals(expected.col, move.col);
+    assertEquals(expected.handIndex, move.handIndex);
+  }
+
+  // A started game played with seeded random moves until the player to move has few moves left
+  private PawnsBoardGame endgameGame() {
+    return endgameGame(0);
+  }
+
+  private PawnsBoardGame endgameGame(long seed) {
+    PawnsBoardGame game = startedGame();
+    Random rand = new Random(seed);
+    int[] moves = new int[3 * game.getRows() * game.getCols() * 16];
+    while (true) {
+      int count = game.getValidMoves(game.getCurrentTurn(), moves);
+      if (count == 0) {
+        game.skipTurn();
+      } else if (count <= 6) {
+        return game;
+      } else {
+        int pick = 3 * rand.nextInt(count);
+        game.placeCard(moves[pick], moves[pick + 1], moves[pick + 2]);
+      }
+    }
+  }
+
+  private PawnsBoardGame startedGame() {
+    return startedGame(false);
+  }
+
+  private PawnsBoardGame startedGame(boolean randomDraw) {
+    List<Card> red = PawnsCardReader.readCards(Player.RED,
+            new File("docs" + File.separator + "deckRed.config"));
+    List<Card> blue = PawnsCardReader.readCards(Player.BLUE,
+            new File("docs" + File.separator + "deckBlue.config"));
+    PawnsBoardGame game = new PawnsBoardGame(3, 5, new Random(1));
+    game.startGame(red, blue, 5, randomDraw);
+    return game;
+  }
+
+  // Final score difference for the player to move under best play, searched without pruning
+  private static int minimax(PawnsBoardGame game) {
+    Player turn = game.getCurrentTurn();
+    if (game.isGameOver()) {
+      Player other = turn == Player.RED ? Player.BLUE : Player.RED;
+      return game.getTotalScore(turn) - game.getTotalScore(other);
+    }
+    int[] moves = new int[3 * game.getRows() * game.getCols() * 16];
+    int count = game.getValidMoves(turn, moves);
+    game.skipTurn();
+    int best = -minimax(game);
+    game.undoMove();
+    for (int i = 0; i < count; i++) {
+      game.placeCard(moves[3 * i], moves[3 * i + 1], moves[3 * i + 2]);
+      best = Math.max(best, -minimax(game));
+      game.undoMove();
+    }
+    return best;
+  }
 }
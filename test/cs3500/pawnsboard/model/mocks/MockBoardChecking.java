@@ -160,4 +160,14 @@ public class MockBoardChecking implements PawnsBoardReadOnly {
     log.append("Checked cell: " + row + ", " + col + "\n");
     return null;
   }
+
+  /**
+   * Returns 0 as the position hash, since this mock keeps no position to hash.
+   *
+   * @return 0
+   */
+  @Override
+  public long getPositionHash() {
+    return 0;
+  }
 }
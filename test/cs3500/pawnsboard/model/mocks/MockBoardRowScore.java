@@ -166,4 +166,14 @@ public class MockBoardRowScore implements PawnsBoardReadOnly {
   public Cell getCellAt(int row, int col) {
     return null;
   }
+
+  /**
+   * Returns 0 as the position hash, since this mock keeps no position to hash.
+   *
+   * @return 0
+   */
+  @Override
+  public long getPositionHash() {
+    return 0;
+  }
 }
@@ -8,6 +8,7 @@ import cs3500.pawnsboard.model.Card;
 import cs3500.pawnsboard.model.Cell;
 import cs3500.pawnsboard.model.PawnsBoard;
 import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.PawnsBoardListener;
 import cs3500.pawnsboard.model.Player;
 
 /**
@@ -231,4 +232,35 @@ public class MockBoardTranscript implements PawnsBoard {
   public void skipTurn() {
     board.skipTurn();
   }
+
+  /**
+   * Returns a 64 bit hash of the current position.
+   *
+   * @return the position hash
+   * @throws IllegalStateException if game is not in progress
+   */
+  @Override
+  public long getPositionHash() {
+    return board.getPositionHash();
+  }
+
+  /**
+   * Adds a listener to the underlying board.
+   *
+   * @param listener the listener to add
+   */
+  @Override
+  public void addListener(PawnsBoardListener listener) {
+    board.addListener(listener);
+  }
+
+  /**
+   * Removes a listener from the underlying board.
+   *
+   * @param listener the listener to remove
+   */
+  @Override
+  public void removeListener(PawnsBoardListener listener) {
+    board.removeListener(listener);
+  }
 }
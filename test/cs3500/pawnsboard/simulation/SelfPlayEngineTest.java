@@ -0,0 +1,116 @@
+package cs3500.pawnsboard.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.Move;
+import cs3500.pawnsboard.model.strategies.PawnsBoardStrategy;
+import cs3500.pawnsboard.model.strategies.StrategyFillFirst;
+import cs3500.pawnsboard.model.strategies.StrategyMaximizeRowScore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for SelfPlayEngine and its sinks.
+ */
+public class SelfPlayEngineTest {
+
+  private final Function<Random, PawnsBoardStrategy> fillFirst = rand -> new StrategyFillFirst();
+  private final Function<Random, PawnsBoardStrategy> maxRowScore =
+      rand -> new StrategyMaximizeRowScore();
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+
+  @Before
+  public void setUp() {
+    File fileRed = new File("docs" + File.separator + "deckRed.config");
+    File fileBlue = new File("docs" + File.separator + "deckBlue.config");
+    redDeck = PawnsCardReader.readCards(Player.RED, fileRed);
+    blueDeck = PawnsCardReader.readCards(Player.BLUE, fileBlue);
+  }
+
+  @Test
+  public void testRunIsReproducibleAcrossThreadCounts() {
+    Map<Long, String> single = playAll(new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, true, 1));
+    Map<Long, String> parallel = playAll(new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, true, 3));
+    assertEquals(200, single.size());
+    assertEquals(single, parallel);
+    SelfPlayEngine engine = new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, true, 2);
+    assertEquals(single.get(137L), outcome(engine.play(fillFirst, maxRowScore, 137, 7)));
+  }
+
+  @Test
+  public void testTallyAndWriterSeeEveryGame() {
+    SelfPlayEngine engine = new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, true, 2);
+    SimulationTally tally = new SimulationTally();
+    engine.run(fillFirst, maxRowScore, 50, 3, tally);
+    assertEquals(50, tally.getGames());
+    assertEquals(50, tally.getWins(Player.RED) + tally.getWins(Player.BLUE) + tally.getTies());
+    assertTrue(tally.getMoves() >= 50 * 2);
+    StringBuilder out = new StringBuilder();
+    engine.run(fillFirst, maxRowScore, 50, 3, GameResultSink.writingTo(out));
+    String[] lines = out.toString().split(System.lineSeparator());
+    assertEquals(51, lines.length);
+    assertEquals(GameResult.HEADER, lines[0]);
+    assertEquals(8, lines[1].split(",", -1).length);
+  }
+
+  @Test
+  public void testStrategyFindingNoMovePasses() {
+    SelfPlayEngine engine = new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, false, 1);
+    GameResult result = engine.play(rand -> (board, player) -> {
+      throw new IllegalStateException("No available moves found");
+    }, fillFirst, 0, 0);
+    assertEquals(Player.BLUE, result.getWinner());
+    assertEquals(0, result.getScore(Player.RED));
+  }
+
+  @Test
+  public void testInvalidMoveStopsRun() {
+    SelfPlayEngine engine = new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, false, 2);
+    assertThrows(IllegalStateException.class, () -> engine.run(
+        rand -> (board, player) -> new Move(0, 4, 0), fillFirst, 100, 0, result -> { }));
+  }
+
+  @Test
+  public void testEngineRejectsBadArguments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, false, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SelfPlayEngine(3, 4, redDeck, blueDeck, 5, false));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SelfPlayEngine(3, 5, redDeck, null, 5, false));
+    SelfPlayEngine engine = new SelfPlayEngine(3, 5, redDeck, blueDeck, 5, false, 1);
+    assertThrows(IllegalArgumentException.class,
+        () -> engine.run(null, fillFirst, 1, 0, result -> { }));
+    assertThrows(IllegalArgumentException.class,
+        () -> engine.run(fillFirst, fillFirst, -1, 0, result -> { }));
+    assertThrows(IllegalArgumentException.class,
+        () -> engine.run(fillFirst, fillFirst, 1, 0, null));
+  }
+
+  // Plays 200 games with seed 7, keeping each game's outcome by its index
+  private Map<Long, String> playAll(SelfPlayEngine engine) {
+    Map<Long, String> outcomes = new HashMap<>();
+    engine.run(fillFirst, maxRowScore, 200, 7,
+        result -> outcomes.put(result.getGame(), outcome(result)));
+    return outcomes;
+  }
+
+  private static String outcome(GameResult result) {
+    return result.getWinner() + " " + result.getScore(Player.RED) + " "
+        + result.getScore(Player.BLUE) + " " + result.getMoves();
+  }
+}
@@ -0,0 +1,91 @@
+package cs3500.pawnsboard.simulation;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import cs3500.pawnsboard.controller.PawnsCardReader;
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.StrategyFillFirst;
+import cs3500.pawnsboard.model.strategies.StrategyMaximizeRowScore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for Tournament and TournamentResult.
+ */
+public class TournamentTest {
+
+  private List<Card> redDeck;
+  private List<Card> blueDeck;
+
+  @Before
+  public void setUp() {
+    File fileRed = new File("docs" + File.separator + "deckRed.config");
+    File fileBlue = new File("docs" + File.separator + "deckBlue.config");
+    redDeck = PawnsCardReader.readCards(Player.RED, fileRed);
+    blueDeck = PawnsCardReader.readCards(Player.BLUE, fileBlue);
+  }
+
+  @Test
+  public void testEveryPairPlaysBothColorsOnEveryDeck() {
+    Tournament tournament = new Tournament(3, 5, 5, true, 2);
+    tournament.addDecks(redDeck, blueDeck);
+    tournament.addDecks(blueDeck, redDeck);
+    tournament.addStrategy("fillFirst", rand -> new StrategyFillFirst());
+    tournament.addStrategy("maxRowScore", rand -> new StrategyMaximizeRowScore());
+    tournament.addStrategy("pass", rand -> (board, player) -> {
+      throw new IllegalStateException("No available moves found");
+    });
+    TournamentResult result = tournament.run(10, 4);
+    assertEquals(List.of("fillFirst", "maxRowScore", "pass"), result.getStrategies());
+    assertEquals(40, result.getGames("fillFirst", "pass"));
+    assertEquals(0, result.getWins("pass", "fillFirst"));
+    assertEquals(40, result.getWins("fillFirst", "maxRowScore")
+        + result.getWins("maxRowScore", "fillFirst") + result.getTies("maxRowScore", "fillFirst"));
+    assertEquals("pass", result.getStandings().get(2));
+    double average = 0;
+    for (String name : result.getStrategies()) {
+      average += result.getElo(name) / 3;
+      assertTrue(result.getEloMargin(name) > 0);
+      assertTrue(result.getGlickoDeviation(name) < 350);
+    }
+    assertEquals(1500, average, 1e-6);
+  }
+
+  @Test
+  public void testRatingsFromKnownResults() {
+    TournamentResult result = new TournamentResult(List.of("a", "b"),
+        new long[][] {{0, 75}, {25, 0}}, new long[2][2]);
+    assertEquals(1594.28, result.getElo("a"), 0.01);
+    assertEquals(1405.72, result.getElo("b"), 0.01);
+    assertEquals(1754.05, result.getGlicko("a"), 0.01);
+    assertEquals(51.37, result.getGlickoDeviation("b"), 0.01);
+    assertEquals(List.of("a", "b"), result.getStandings());
+    TournamentResult even = new TournamentResult(List.of("a", "b"),
+        new long[][] {{0, 40}, {40, 0}}, new long[][] {{0, 20}, {20, 0}});
+    assertEquals(1500, even.getElo("a"), 1e-6);
+    assertEquals(1500, even.getGlicko("b"), 1e-6);
+    assertThrows(IllegalArgumentException.class, () -> even.getElo("c"));
+  }
+
+  @Test
+  public void testTournamentRejectsBadSetup() {
+    Tournament tournament = new Tournament(3, 5, 5, false, 1);
+    tournament.addStrategy("fillFirst", rand -> new StrategyFillFirst());
+    assertThrows(IllegalArgumentException.class,
+        () -> tournament.addStrategy("fillFirst", rand -> new StrategyFillFirst()));
+    assertThrows(IllegalArgumentException.class, () -> tournament.addStrategy("x", null));
+    assertThrows(IllegalArgumentException.class, () -> tournament.addDecks(redDeck, null));
+    assertThrows(IllegalArgumentException.class, () -> new Tournament(3, 5, 5, false, 0));
+    tournament.addStrategy("maxRowScore", rand -> new StrategyMaximizeRowScore());
+    assertThrows(IllegalStateException.class, () -> tournament.run(1, 0));
+    tournament.addDecks(redDeck, blueDeck);
+    assertThrows(IllegalArgumentException.class, () -> tournament.run(0, 0));
+  }
+}
@@ -0,0 +1,74 @@
+package cs3500.pawnsboard.view;
+
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import cs3500.pawnsboard.model.Card;
+import cs3500.pawnsboard.model.PawnsCard;
+import cs3500.pawnsboard.model.Player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Test class for PawnsBoardCardFaces.
+ */
+public class PawnsBoardCardFacesTest {
+
+  private final Card card = PawnsCard.of("test", 1, 2, (1 << 12) | (1 << 13));
+
+  @Test
+  public void testFaceIsRenderedOnce() {
+    PawnsBoardCardFaces faces = new PawnsBoardCardFaces(4);
+    BufferedImage face = faces.getFace(card, Player.RED, 140, 180, 1, false);
+    assertSame(face, faces.getFace(card, Player.RED, 140, 180, 1, false));
+    assertNotSame(face, faces.getFace(card, Player.RED, 140, 180, 1, true));
+    assertEquals(1, faces.getHits());
+    assertEquals(2, faces.getMisses());
+  }
+
+  @Test
+  public void testFaceShowsColorsAndInfluence() {
+    PawnsBoardCardFaces faces = new PawnsBoardCardFaces(4);
+    BufferedImage face = faces.getFace(card, Player.BLUE, 140, 180, 1, false);
+    assertEquals(140, face.getWidth());
+    assertEquals(Color.BLUE.getRGB(), face.getRGB(135, 175));
+    assertEquals(Color.YELLOW.getRGB(), face.getRGB(70, 90));
+    assertEquals(Color.CYAN.getRGB(), face.getRGB(90, 90));
+    assertEquals(Color.DARK_GRAY.getRGB(), face.getRGB(30, 50));
+    face = faces.getFace(card, Player.BLUE, 140, 180, 1, true);
+    assertEquals(Color.CYAN.getRGB(), face.getRGB(135, 175));
+    assertEquals(280, faces.getFace(card, Player.BLUE, 140, 180, 2, true).getWidth());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedFaceIsEvicted() {
+    PawnsBoardCardFaces faces = new PawnsBoardCardFaces(2);
+    BufferedImage small = faces.getFace(card, Player.RED, 70, 90, 1, false);
+    faces.getFace(card, Player.RED, 140, 180, 1, false);
+    faces.getFace(card, Player.RED, 70, 90, 1, false);
+    faces.getFace(card, Player.RED, 280, 360, 1, false);
+    assertEquals(2, faces.size());
+    assertSame(small, faces.getFace(card, Player.RED, 70, 90, 1, false));
+    assertEquals(3, faces.getMisses());
+    assertEquals(2, faces.getHits());
+  }
+
+  @Test
+  public void testFacesRejectBadArguments() {
+    PawnsBoardCardFaces faces = new PawnsBoardCardFaces(2);
+    assertThrows(IllegalArgumentException.class, () -> new PawnsBoardCardFaces(0));
+    assertThrows(IllegalArgumentException.class,
+        () -> faces.getFace(null, Player.RED, 10, 10, 1, false));
+    assertThrows(IllegalArgumentException.class,
+        () -> faces.getFace(card, null, 10, 10, 1, false));
+    assertThrows(IllegalArgumentException.class,
+        () -> faces.getFace(card, Player.RED, 0, 10, 1, false));
+    assertThrows(IllegalArgumentException.class,
+        () -> faces.getFace(card, Player.RED, 10, 10, 0, false));
+  }
+}
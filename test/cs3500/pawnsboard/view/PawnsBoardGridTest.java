@@ -0,0 +1,74 @@
+package cs3500.pawnsboard.view;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+import cs3500.pawnsboard.controller.PawnsDeckGenerator;
+import cs3500.pawnsboard.model.PawnsBoardGame;
+import cs3500.pawnsboard.model.Player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Test class for PawnsBoardGrid.
+ */
+public class PawnsBoardGridTest {
+
+  PawnsBoardGame game;
+  PawnsBoardGrid grid;
+
+  @Before
+  public void setUp() {
+    game = PawnsDeckGenerator.startGame(3, 5, 5, 1);
+    grid = new PawnsBoardGrid(game, null);
+    grid.setSize(700, 300);
+  }
+
+  @Test
+  public void testGridRejectsNullModel() {
+    assertThrows(IllegalArgumentException.class, () -> new PawnsBoardGrid(null, null));
+  }
+
+  @Test
+  public void testGetCellAtFindsCellUnderPoint() {
+    PawnsBoardButton cell = grid.getCellAt(150, 250);
+    assertEquals(2, cell.getRow());
+    assertEquals(0, cell.getCol());
+    assertEquals(1, cell.getCell().getPawns());
+    assertEquals(4, grid.getCellAt(599, 0).getCol());
+    assertNull(grid.getCellAt(50, 50));
+    assertNull(grid.getCellAt(650, 50));
+    assertNull(grid.getCellAt(-1, 50));
+    assertNull(grid.getCellAt(150, 300));
+  }
+
+  @Test
+  public void testGridPaintsCellsAfterUpdate() {
+    assertEquals(Color.GRAY.getRGB(), paint().getRGB(105, 5));
+    int handId = 0;
+    while (!game.isMoveValid(0, 0, handId, Player.RED)) {
+      handId++;
+    }
+    game.placeCard(0, 0, handId);
+    assertEquals(Color.GRAY.getRGB(), paint().getRGB(105, 5));
+    grid.update();
+    assertEquals(Color.RED.getRGB(), paint().getRGB(105, 5));
+    grid.setSelected(grid.getCellAt(105, 5));
+    assertEquals(Color.CYAN.getRGB(), paint().getRGB(105, 5));
+    assertEquals(Color.WHITE.getRGB(), paint().getRGB(5, 5));
+  }
+
+  private BufferedImage paint() {
+    BufferedImage image = new BufferedImage(700, 300, BufferedImage.TYPE_INT_RGB);
+    Graphics g = image.createGraphics();
+    grid.paint(g);
+    g.dispose();
+    return image;
+  }
+}
@@ -4,7 +4,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import cs3500.pawnsboard.controller.PawnsCardReader;
@@ -13,6 +16,7 @@ import cs3500.pawnsboard.model.PawnsBoard;
 import cs3500.pawnsboard.model.PawnsBoardGame;
 import cs3500.pawnsboard.model.PawnsCard;
 import cs3500.pawnsboard.model.Player;
+import cs3500.pawnsboard.model.strategies.Move;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
@@ -93,4 +97,34 @@ public class PawnsBoardTextualViewTest {
             + "0 1_B 1\n";
     assertEquals(cardExpected, view.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testRenderWritesToString() throws IOException {
+    board.startGame(redCards, blueCards, 1, false);
+    PawnsBoardTextualView view = new PawnsBoardTextualView(board);
+    board.placeCard(0, 0, 0);
+    StringWriter out = new StringWriter();
+    view.render(out);
+    assertEquals(view.toString(), out.toString());
+    assertThrows(IllegalArgumentException.class, () -> view.render(null));
+  }
+
+  @Test
+  public void testRenderGameWritesEveryPosition() throws IOException {
+    board.startGame(redCards, blueCards, 1, false);
+    StringBuilder out = new StringBuilder();
+    PawnsBoardTextualView.renderGame(board, Arrays.asList(new Move(0, 0, 0), null), out);
+    String expected = "0 1_1 0\n"
+            + "0 1_1 0\n"
+            + "\n"
+            + "1 R_1 0\n"
+            + "0 1_1 0\n"
+            + "\n"
+            + "1 R_1 0\n"
+            + "0 1_1 0\n";
+    assertEquals(expected, out.toString());
+    assertEquals(Player.RED, board.getCurrentTurn());
+    assertThrows(IllegalArgumentException.class,
+        () -> PawnsBoardTextualView.renderGame(board, null, out));
+  }
+}